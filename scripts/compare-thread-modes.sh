@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 / 가상 스레드 모드로 각각 서비스를 띄워 같은 부하를 주고 리포트를 비교
+# 사용법: scripts/compare-thread-modes.sh [concurrency] [durationSeconds] [users]
+# LOADTEST_MIX=byId=50,export=1 처럼 시나리오 비율 지정 가능
+set -euo pipefail
+# 백그라운드 서버를 별도 프로세스 그룹으로 띄워, gradle 이 fork 한 서버 JVM 까지 그룹째 종료
+set -m
+
+cd "$(dirname "$0")/.."
+CONCURRENCY="${1:-200}"
+DURATION="${2:-30}"
+USERS="${3:-100000}"
+PORT="${PORT:-18080}"
+
+./gradlew -q loadtestClasses
+
+stop_server() {
+  trap - RETURN
+  local pid="$1"
+  kill -- -"$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+  # 다음 모드가 이전 서버에 붙지 않도록 포트가 닫힐 때까지 대기
+  for _ in $(seq 1 60); do
+    curl -s -o /dev/null "http://localhost:$PORT/actuator/health" || return 0
+    sleep 1
+  done
+  echo "port $PORT is still in use after stopping the $2 server" >&2
+  exit 1
+}
+
+run_mode() {
+  local label="$1" virtual="$2"
+  # 매번 같은 random-seed 로 같은 데이터셋을 생성 (가상 스레드 모드의 pinning 지점은 서버 로그에 남음)
+  # --no-daemon: 데몬이 서버 JVM 을 붙잡고 남지 않게 함
+  VIRTUAL_THREADS_ENABLED="$virtual" ./gradlew -q --no-daemon loadTestServer -Dserver.port="$PORT" \
+    -Dmodive.loadtest.seed.users="$USERS" > "build/reports/loadtest/$label-server.log" 2>&1 &
+  local pid=$!
+  trap "stop_server $pid $label" RETURN
+
+  for _ in $(seq 1 600); do
+    curl -sf "http://localhost:$PORT/actuator/health" > /dev/null && break
+    sleep 1
+  done
+
+  ./gradlew -q loadTest -Dloadtest.baseUrl="http://localhost:$PORT" -Dloadtest.label="$label" \
+    -Dloadtest.concurrency="$CONCURRENCY" -Dloadtest.durationSeconds="$DURATION" \
+    -Dloadtest.mix="${LOADTEST_MIX:-}"
+}
+
+mkdir -p build/reports/loadtest
+run_mode platform false
+run_mode virtual true
+
+echo "--- pinned thread traces (virtual mode) ---"
+grep -c "<== monitors" build/reports/loadtest/virtual-server.log || true
+cat build/reports/loadtest/platform.json build/reports/loadtest/virtual.json
@@ -0,0 +1,9 @@
+-- 한 번만 실행해야 하는 작업 표시, MySQL 8.0+
+-- monthly_user_stats.backfill: 기동 시 집계 backfill 을 여러 인스턴스 중 한 곳에서만 실행
+-- 집계를 다시 만들려면 monthly_user_stats 를 비우고 이 행도 지운다.
+
+CREATE TABLE IF NOT EXISTS job_marker (
+    name       VARCHAR(64) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
@@ -0,0 +1,8 @@
+-- 닉네임 중복을 DB 에서 보장, MySQL 8.0+
+-- nickname 컬럼 collation(utf8mb4_0900_ai_ci) 으로 비교하므로 대소문자/악센트만 다른 값(ß / ss 포함)도 같은 닉네임으로 막힌다.
+-- NULL 은 여러 행에 허용된다.
+
+-- 적용 전 기존 중복 확인, 결과가 있으면 먼저 정리해야 인덱스가 만들어진다.
+SELECT nickname, COUNT(*) FROM users WHERE nickname IS NOT NULL GROUP BY nickname HAVING COUNT(*) > 1;
+
+CREATE UNIQUE INDEX uk_users_nickname ON users (nickname);
@@ -0,0 +1,137 @@
+-- VARCHAR(36) UUID 키를 BINARY(16) 으로 옮기는 수동 마이그레이션 (MySQL 8.0+)
+-- 새 id 는 애플리케이션에서 UUIDv7 로 생성되므로 UUID_TO_BIN(x, 0) (swap 없음) 으로 저장한다.
+-- 외부 응답(UserInfo, CarInfo, 변경 피드)의 문자열 형식은 그대로 유지된다.
+--
+-- 전제: users 를 쓰는 다른 서비스(가입 등)도 BIN 컬럼을 채우도록 배포되었거나, 아래 1단계 트리거로 동기화한다.
+-- 번호는 018 이지만 020(user_change_outbox), 024(users_archive, cars_archive), 025(deactivated_at) 이
+-- 적용된 스키마를 기준으로 작성했으므로 그 뒤에 실행한다.
+-- user_id 를 담는 테이블이나 user_id 를 포함하는 인덱스가 추가되면 이 파일도 함께 갱신한다.
+-- (user_change_outbox.aggregate_id 는 조인 키가 아닌 표시용 문자열이므로 그대로 둔다)
+
+-- 1단계: 확장 (무중단) ---------------------------------------------------------
+ALTER TABLE users ADD COLUMN user_id_bin BINARY(16) NULL, ALGORITHM=INSTANT;
+ALTER TABLE cars  ADD COLUMN car_id_bin  BINARY(16) NULL,
+                  ADD COLUMN user_id_bin BINARY(16) NULL, ALGORITHM=INSTANT;
+ALTER TABLE reward_ledger      ADD COLUMN user_id_bin BINARY(16) NULL, ALGORITHM=INSTANT;
+ALTER TABLE user_cache_events  ADD COLUMN user_id_bin BINARY(16) NULL, ALGORITHM=INSTANT;
+ALTER TABLE user_change_outbox ADD COLUMN user_id_bin BINARY(16) NULL, ALGORITHM=INSTANT;
+ALTER TABLE users_archive      ADD COLUMN user_id_bin BINARY(16) NULL, ALGORITHM=INSTANT;
+ALTER TABLE cars_archive       ADD COLUMN car_id_bin  BINARY(16) NULL,
+                               ADD COLUMN user_id_bin BINARY(16) NULL, ALGORITHM=INSTANT;
+
+-- 전환 전까지 문자열 컬럼으로 들어오는 쓰기를 동기화
+CREATE TRIGGER trg_users_id_bin BEFORE INSERT ON users FOR EACH ROW
+    SET NEW.user_id_bin = UUID_TO_BIN(NEW.user_id);
+CREATE TRIGGER trg_cars_id_bin BEFORE INSERT ON cars FOR EACH ROW
+    SET NEW.car_id_bin = UUID_TO_BIN(NEW.car_id), NEW.user_id_bin = UUID_TO_BIN(NEW.user_id);
+CREATE TRIGGER trg_reward_ledger_id_bin BEFORE INSERT ON reward_ledger FOR EACH ROW
+    SET NEW.user_id_bin = UUID_TO_BIN(NEW.user_id);
+CREATE TRIGGER trg_user_cache_events_id_bin BEFORE INSERT ON user_cache_events FOR EACH ROW
+    SET NEW.user_id_bin = UUID_TO_BIN(NEW.user_id);
+CREATE TRIGGER trg_user_change_outbox_id_bin BEFORE INSERT ON user_change_outbox FOR EACH ROW
+    SET NEW.user_id_bin = UUID_TO_BIN(NEW.user_id);
+CREATE TRIGGER trg_users_archive_id_bin BEFORE INSERT ON users_archive FOR EACH ROW
+    SET NEW.user_id_bin = UUID_TO_BIN(NEW.user_id);
+CREATE TRIGGER trg_cars_archive_id_bin BEFORE INSERT ON cars_archive FOR EACH ROW
+    SET NEW.car_id_bin = UUID_TO_BIN(NEW.car_id), NEW.user_id_bin = UUID_TO_BIN(NEW.user_id);
+
+-- 2단계: 기존 행 채우기 (잠금 시간을 짧게 유지하도록 배치 단위로 반복 실행, 0 rows 가 될 때까지)
+UPDATE users SET user_id_bin = UUID_TO_BIN(user_id) WHERE user_id_bin IS NULL LIMIT 5000;
+UPDATE cars SET car_id_bin = UUID_TO_BIN(car_id), user_id_bin = UUID_TO_BIN(user_id)
+    WHERE car_id_bin IS NULL LIMIT 5000;
+UPDATE reward_ledger SET user_id_bin = UUID_TO_BIN(user_id) WHERE user_id_bin IS NULL LIMIT 5000;
+UPDATE user_cache_events SET user_id_bin = UUID_TO_BIN(user_id) WHERE user_id_bin IS NULL LIMIT 5000;
+UPDATE user_change_outbox SET user_id_bin = UUID_TO_BIN(user_id) WHERE user_id_bin IS NULL LIMIT 5000;
+UPDATE users_archive SET user_id_bin = UUID_TO_BIN(user_id) WHERE user_id_bin IS NULL LIMIT 5000;
+UPDATE cars_archive SET car_id_bin = UUID_TO_BIN(car_id), user_id_bin = UUID_TO_BIN(user_id)
+    WHERE car_id_bin IS NULL LIMIT 5000;
+
+-- 검증: 모두 0 이어야 함
+SELECT COUNT(*) FROM users WHERE user_id_bin IS NULL OR BIN_TO_UUID(user_id_bin) <> user_id;
+SELECT COUNT(*) FROM cars  WHERE car_id_bin IS NULL OR BIN_TO_UUID(car_id_bin) <> car_id;
+SELECT COUNT(*) FROM user_change_outbox WHERE user_id_bin IS NULL;
+SELECT COUNT(*) FROM users_archive WHERE user_id_bin IS NULL OR BIN_TO_UUID(user_id_bin) <> user_id;
+SELECT COUNT(*) FROM cars_archive  WHERE car_id_bin IS NULL OR BIN_TO_UUID(car_id_bin) <> car_id;
+
+-- 3단계: 전환 (점검 시간, 애플리케이션 매핑 변경과 함께 배포) ------------------
+-- 보관 작업(modive.archive.enabled)은 전환 동안 끈다. users 와 users_archive 의 타입이 다르면 INSERT ... SELECT 가 깨진다.
+-- 애플리케이션 변경:
+--   User.userId, Car.carId, ArchivedUser.userId, ArchivedCar.carId/userId, UserChangeEvent.userId
+--                                   : @Convert(converter = UuidBinaryConverter.class), columnDefinition = "BINARY(16)"
+--   RewardBatchRepository, UserChangeBatchRepository, ArchiveBatchRepository, 네이티브 쿼리
+--                                   : user_id 바인딩을 UUID_TO_BIN(?) 로, 조회 결과는 BIN_TO_UUID(user_id) 로 변경
+ALTER TABLE cars DROP FOREIGN KEY fk_cars_user;  -- 실제 FK 이름은 SHOW CREATE TABLE cars 로 확인
+
+-- DROP COLUMN 은 그 컬럼을 포함한 복합 인덱스에서 컬럼만 빼므로, user_id 가 들어간 인덱스는 같은 문장에서 다시 만든다.
+-- (keyset 페이지 조회, 신규 가입자 추적, 보관 대상 조회가 이 인덱스들의 (…, user_id) 순서에 의존)
+ALTER TABLE users
+    DROP PRIMARY KEY,
+    DROP INDEX idx_users_created,
+    DROP INDEX idx_users_active_created,
+    DROP INDEX idx_users_active_deactivated,
+    DROP COLUMN user_id,
+    RENAME COLUMN user_id_bin TO user_id,
+    MODIFY user_id BINARY(16) NOT NULL,
+    ADD PRIMARY KEY (user_id),
+    ADD INDEX idx_users_created (create_date_time, user_id),
+    ADD INDEX idx_users_active_created (is_active, create_date_time, user_id),
+    ADD INDEX idx_users_active_deactivated (is_active, deactivated_at, user_id);
+
+ALTER TABLE cars
+    DROP PRIMARY KEY,
+    DROP COLUMN car_id,
+    DROP COLUMN user_id,
+    RENAME COLUMN car_id_bin TO car_id,
+    RENAME COLUMN user_id_bin TO user_id,
+    MODIFY car_id BINARY(16) NOT NULL,
+    ADD PRIMARY KEY (car_id),
+    ADD CONSTRAINT fk_cars_user FOREIGN KEY (user_id) REFERENCES users (user_id);
+
+ALTER TABLE reward_ledger
+    DROP INDEX uk_reward_ledger_idempotency,
+    DROP COLUMN user_id,
+    RENAME COLUMN user_id_bin TO user_id,
+    ADD UNIQUE KEY uk_reward_ledger_idempotency (user_id, idempotency_key);
+
+ALTER TABLE user_cache_events
+    DROP COLUMN user_id,
+    RENAME COLUMN user_id_bin TO user_id,
+    MODIFY user_id BINARY(16) NOT NULL;
+
+ALTER TABLE user_change_outbox
+    DROP COLUMN user_id,
+    RENAME COLUMN user_id_bin TO user_id,
+    MODIFY user_id BINARY(16) NOT NULL;
+
+ALTER TABLE users_archive
+    DROP PRIMARY KEY,
+    DROP COLUMN user_id,
+    RENAME COLUMN user_id_bin TO user_id,
+    MODIFY user_id BINARY(16) NOT NULL,
+    ADD PRIMARY KEY (user_id);
+
+ALTER TABLE cars_archive
+    DROP PRIMARY KEY,
+    DROP INDEX idx_cars_archive_user,
+    DROP COLUMN car_id,
+    DROP COLUMN user_id,
+    RENAME COLUMN car_id_bin TO car_id,
+    RENAME COLUMN user_id_bin TO user_id,
+    MODIFY car_id BINARY(16) NOT NULL,
+    MODIFY user_id BINARY(16) NOT NULL,
+    ADD PRIMARY KEY (car_id),
+    ADD INDEX idx_cars_archive_user (user_id);
+
+DROP TRIGGER trg_users_id_bin;
+DROP TRIGGER trg_cars_id_bin;
+DROP TRIGGER trg_reward_ledger_id_bin;
+DROP TRIGGER trg_user_cache_events_id_bin;
+DROP TRIGGER trg_user_change_outbox_id_bin;
+DROP TRIGGER trg_users_archive_id_bin;
+DROP TRIGGER trg_cars_archive_id_bin;
+
+-- 검증: 복합 인덱스가 (…, user_id) 로 다시 만들어졌는지 확인
+SHOW INDEX FROM users WHERE Key_name IN ('idx_users_created', 'idx_users_active_created', 'idx_users_active_deactivated');
+
+-- 보조 인덱스는 PK 를 포함하므로 전환 후 16바이트 PK 를 가리키게 되어 함께 작아짐
+ANALYZE TABLE users, cars, reward_ledger, user_cache_events, user_change_outbox, users_archive, cars_archive;
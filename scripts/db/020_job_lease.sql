@@ -0,0 +1,10 @@
+-- 한 인스턴스에서만 실행할 주기 작업의 임대, MySQL 8.0+
+-- user_change_outbox.signup_relay: 가입 relay 를 여러 pod 가 동시에 돌리면 INSERT IGNORE 충돌로 outbox sequence 가 버려지고
+-- 변경 피드가 gap-timeout 만큼 멈추므로 임대를 가진 pod 만 실행한다.
+
+CREATE TABLE IF NOT EXISTS job_lease (
+    name       VARCHAR(64)  NOT NULL,
+    owner      VARCHAR(255) NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
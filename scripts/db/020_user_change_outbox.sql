@@ -0,0 +1,16 @@
+-- 사용자/차량 변경 outbox (GET /user/changes), MySQL 8.0+
+-- id 가 피드의 sequence 이고 조회는 PK range scan (id > ? ORDER BY id LIMIT ?) 으로만 한다.
+-- dedupe_key 는 가입(USER_CREATED)처럼 여러 인스턴스가 같은 변경을 감지할 수 있는 경우에만 채운다.
+
+CREATE TABLE IF NOT EXISTS user_change_outbox (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    change_type  VARCHAR(32)  NOT NULL,
+    user_id      VARCHAR(36)  NOT NULL,
+    aggregate_id VARCHAR(36)  NULL,
+    payload      VARCHAR(255) NULL,
+    dedupe_key   VARCHAR(64)  NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_user_change_outbox_dedupe (dedupe_key),
+    KEY idx_user_change_outbox_created (created_at)
+) ENGINE = InnoDB;
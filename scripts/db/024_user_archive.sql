@@ -0,0 +1,37 @@
+-- 오래 비활성 상태인 사용자/차량 보관 테이블 (modive.archive.*), MySQL 8.0+
+-- 컬럼은 users / cars 와 같은 타입으로 맞춰 INSERT ... SELECT 로 그대로 옮긴다.
+-- 보관 후에는 이메일/닉네임 중복 확인 대상에서 빠지므로 users_archive.email 에는 unique 를 걸지 않는다.
+
+CREATE TABLE IF NOT EXISTS users_archive (
+    user_id            VARCHAR(36)  NOT NULL,
+    reward             BIGINT       NULL,
+    nickname           VARCHAR(255) NULL,
+    name               VARCHAR(255) NOT NULL,
+    email              VARCHAR(255) NULL,
+    alarm              BIT(1)       NOT NULL,
+    interest           VARCHAR(255) NULL,
+    driving_experience BIGINT       NULL,
+    social_id          VARCHAR(255) NULL,
+    social_type        VARCHAR(255) NULL,
+    create_date_time   DATETIME(6)  NULL,
+    update_date_time   DATETIME(6)  NULL,
+    is_active          BIT(1)       NOT NULL,
+    archived_at        DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_id),
+    KEY idx_users_archive_created (create_date_time),
+    KEY idx_users_archive_updated (update_date_time)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS cars_archive (
+    car_id           VARCHAR(36)  NOT NULL,
+    user_id          VARCHAR(36)  NOT NULL,
+    number           VARCHAR(255) NOT NULL,
+    active           BIT(1)       NOT NULL,
+    create_date_time DATETIME(6)  NULL,
+    archived_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (car_id),
+    KEY idx_cars_archive_user (user_id)
+) ENGINE = InnoDB;
+
+-- 보관 대상 조회 (is_active = FALSE AND update_date_time < ? ORDER BY update_date_time, user_id) 용
+CREATE INDEX idx_users_active_updated ON users (is_active, update_date_time, user_id);
@@ -0,0 +1,22 @@
+-- 탈퇴(비활성화) 시각 컬럼, MySQL 8.0+
+-- update_date_time 은 닉네임/알림/리워드 변경에도 갱신되므로 이탈 통계와 보관(024) 기준을 deactivated_at 으로 옮긴다.
+-- idx_users_active_deactivated 하나로 이탈 월별 집계(is_active = FALSE AND deactivated_at >= ?)와
+-- 보관 대상 keyset 조회(ORDER BY deactivated_at, user_id)를 모두 범위 조회로 처리한다.
+
+ALTER TABLE users ADD COLUMN deactivated_at DATETIME(6) NULL;
+CREATE INDEX idx_users_active_deactivated ON users (is_active, deactivated_at, user_id);
+DROP INDEX idx_users_active_updated ON users;
+
+ALTER TABLE users_archive ADD COLUMN deactivated_at DATETIME(6) NULL;
+CREATE INDEX idx_users_archive_deactivated ON users_archive (deactivated_at);
+DROP INDEX idx_users_archive_updated ON users_archive;
+
+-- 기존 비활성 사용자 backfill, 애플리케이션 시작 시 DeactivationBackfillJob 이 같은 문장을 batch 로 실행한다.
+-- 수동으로 돌릴 때는 영향 행이 0 이 될 때까지 반복한다.
+UPDATE users SET deactivated_at = COALESCE(update_date_time, create_date_time)
+WHERE is_active = FALSE AND deactivated_at IS NULL
+LIMIT 5000;
+
+UPDATE users_archive SET deactivated_at = COALESCE(update_date_time, create_date_time)
+WHERE deactivated_at IS NULL
+LIMIT 5000;
@@ -0,0 +1,58 @@
+package com.modive.userservice.benchmark;
+
+import com.modive.userservice.domain.User;
+import com.modive.userservice.dto.query.MonthlyStatsDto;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+// 벤치마크용 고정 시드 합성 데이터
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<User> users(int count) {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2023, 1, 1, 0, 0);
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = User.of(
+                    "user" + i,
+                    "nickname" + i,
+                    "user" + i + "@modive.com",
+                    "ECO",
+                    (long) random.nextInt(30),
+                    String.valueOf(i),
+                    "KAKAO"
+            );
+            user.setUserId(UUID.randomUUID().toString());
+            user.setReward((long) random.nextInt(100_000));
+            user.setActive(random.nextInt(10) != 0);
+            user.setCreateDateTime(base.plusMinutes(random.nextInt(60 * 24 * 900)));
+            users.add(user);
+        }
+        return users;
+    }
+
+    static List<MonthlyStatsDto> monthlyCounts(List<YearMonth> months, int averagePerMonth, long seed) {
+        Random random = new Random(seed);
+        List<MonthlyStatsDto> stats = new ArrayList<>(months.size());
+        for (YearMonth month : months) {
+            stats.add(new MonthlyStatsDto(month.toString(), (long) random.nextInt(averagePerMonth * 2 + 1)));
+        }
+        return stats;
+    }
+
+    static List<YearMonth> monthsUntil(YearMonth last, int count) {
+        List<YearMonth> months = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            months.add(last.minusMonths(i));
+        }
+        return months;
+    }
+}
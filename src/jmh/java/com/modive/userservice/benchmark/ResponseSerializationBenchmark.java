@@ -0,0 +1,62 @@
+package com.modive.userservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modive.userservice.domain.UserInfo;
+import com.modive.userservice.dto.query.AdminStatsSnapshot;
+import com.modive.userservice.dto.response.ApiResponse;
+import com.modive.userservice.dto.response.MonthlyStatsResponse;
+import com.modive.userservice.dto.response.UserListResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ApiResponse 로 감싼 응답의 JSON 직렬화 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int userCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<UserInfo> userInfos;
+    private MonthlyStatsResponse monthlyStats;
+
+    @Setup
+    public void setUp() {
+        userInfos = BenchmarkFixtures.users(userCount).stream()
+                .map(UserInfo::from)
+                .toList();
+
+        List<YearMonth> months = BenchmarkFixtures.monthsUntil(YearMonth.now(), 12);
+        monthlyStats = AdminStatsSnapshot.compute(
+                Instant.now(),
+                userCount / 50L,
+                months,
+                BenchmarkFixtures.monthlyCounts(months, userCount / 12, 1L),
+                BenchmarkFixtures.monthlyCounts(months, userCount / 120 + 1, 2L)
+        ).getMonthlyStats();
+    }
+
+    @Benchmark
+    public ApiResponse<UserListResponse> buildUserListResponse() {
+        return new ApiResponse<>(HttpStatus.OK, UserListResponse.of(userInfos));
+    }
+
+    @Benchmark
+    public byte[] serializeUserListResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new ApiResponse<>(HttpStatus.OK, UserListResponse.of(userInfos)));
+    }
+
+    @Benchmark
+    public byte[] serializeMonthlyStatsResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new ApiResponse<>(HttpStatus.OK, monthlyStats));
+    }
+}
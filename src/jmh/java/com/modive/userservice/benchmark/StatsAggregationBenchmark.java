@@ -0,0 +1,38 @@
+package com.modive.userservice.benchmark;
+
+import com.modive.userservice.dto.query.AdminStatsSnapshot;
+import com.modive.userservice.dto.query.MonthlyStatsDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 12개월 누적 추이 계산 (가입 이력 개월 수에 따른 비용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatsAggregationBenchmark {
+
+    @Param({"12", "120"})
+    private int historyMonths;
+
+    private List<YearMonth> last12Months;
+    private List<MonthlyStatsDto> userStats;
+    private List<MonthlyStatsDto> churnStats;
+
+    @Setup
+    public void setUp() {
+        YearMonth current = YearMonth.now();
+        last12Months = BenchmarkFixtures.monthsUntil(current, 12);
+        List<YearMonth> history = BenchmarkFixtures.monthsUntil(current, historyMonths);
+        userStats = BenchmarkFixtures.monthlyCounts(history, 10_000, 1L);
+        churnStats = BenchmarkFixtures.monthlyCounts(history, 500, 2L);
+    }
+
+    @Benchmark
+    public AdminStatsSnapshot computeSnapshot() {
+        return AdminStatsSnapshot.compute(Instant.now(), 1_000L, last12Months, userStats, churnStats);
+    }
+}
@@ -0,0 +1,33 @@
+package com.modive.userservice.benchmark;
+
+import com.modive.userservice.domain.User;
+import com.modive.userservice.domain.UserInfo;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// User -> UserInfo 변환 비용 (joinedAt 포맷 포함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserInfoMappingBenchmark {
+
+    @Param({"1000", "100000"})
+    private int userCount;
+
+    private List<User> users;
+
+    @Setup
+    public void setUp() {
+        users = BenchmarkFixtures.users(userCount);
+    }
+
+    @Benchmark
+    public void mapAll(Blackhole blackhole) {
+        for (User user : users) {
+            blackhole.consume(UserInfo.from(user));
+        }
+    }
+}
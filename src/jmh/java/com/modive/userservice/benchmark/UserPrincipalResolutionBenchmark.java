@@ -0,0 +1,94 @@
+package com.modive.userservice.benchmark;
+
+import com.modive.userservice.auth.UserPrincipal;
+import com.modive.userservice.auth.UserPrincipalFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+// 요청 하나에서 사용자 식별자를 lookups 번 꺼낼 때의 비용
+// legacy: 매 호출 RequestContextHolder 조회 + System.out.println 2회 (동기화된 stdout 경합)
+// principal: 필터에서 한 번 해석 후 요청 속성에서 재사용
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class UserPrincipalResolutionBenchmark {
+
+    @Param({"1", "3"})
+    private int lookups;
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("GET", "/user/me");
+        request.addHeader("X-USER-ID", "7c9e6679-7425-40de-944b-e07fc1f90ae7");
+        request.addHeader("X-MEMBER-ID", "7c9e6679-7425-40de-944b-e07fc1f90ae7");
+        request.addHeader("X-USER-ROLE", "USER");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public String legacyHeaderLookup(SilencedStdout stdout) {
+        String userId = null;
+        for (int i = 0; i < lookups; i++) {
+            userId = legacyGetUserId();
+        }
+        return userId;
+    }
+
+    @Benchmark
+    public String principalResolvedOnce() {
+        // UserPrincipalFilter 가 요청 시작 시 하는 일
+        UserPrincipal resolved = UserPrincipal.of(request.getHeader(UserPrincipal.USER_ID_HEADER),
+                request.getHeader(UserPrincipal.USER_ROLE_HEADER));
+        request.setAttribute(UserPrincipalFilter.PRINCIPAL_ATTRIBUTE, resolved);
+
+        // 컨트롤러 파라미터 주입 후 서비스에는 값으로 전달
+        UserPrincipal principal = (UserPrincipal) request.getAttribute(UserPrincipalFilter.PRINCIPAL_ATTRIBUTE);
+        String userId = null;
+        for (int i = 0; i < lookups; i++) {
+            userId = principal.getUserId();
+        }
+        return userId;
+    }
+
+    // 제거된 UserUtil.getUserId() 와 동일한 동작
+    private static String legacyGetUserId() {
+        HttpServletRequest request =
+                ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
+        System.out.println(request.getHeader("X-MEMBER-ID"));
+        System.out.println(request.getHeader("X-USER-ID"));
+        return request.getHeader("X-USER-ID");
+    }
+
+    // 벤치마크 출력이 묻히지 않도록 stdout 을 버리되, PrintStream 동기화 비용은 그대로 유지
+    @State(Scope.Benchmark)
+    public static class SilencedStdout {
+
+        private PrintStream original;
+
+        @Setup
+        public void silence() {
+            original = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream(), true));
+        }
+
+        @TearDown
+        public void restore() {
+            System.setOut(original);
+        }
+    }
+}
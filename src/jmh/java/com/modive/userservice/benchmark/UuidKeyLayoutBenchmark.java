@@ -0,0 +1,118 @@
+package com.modive.userservice.benchmark;
+
+import com.modive.userservice.domain.id.UuidCodec;
+import com.modive.userservice.domain.id.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 현재 레이아웃(VARCHAR(36) + 랜덤 v4) 과 BINARY(16) + v7 의 삽입/단건 조회 비용
+// 기본은 H2(MySQL 모드), 실제 InnoDB 수치는 -p jdbcUrl=jdbc:mysql://... -p user=... -p password=... 로 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UuidKeyLayoutBenchmark {
+
+    private static final int INSERT_BATCH = 1_000;
+
+    @Param({"varchar_v4", "binary_v7"})
+    private String layout;
+
+    @Param({"100000"})
+    private int preloadRows;
+
+    @Param({"jdbc:h2:mem:uuid_bench;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    private String jdbcUrl;
+
+    @Param({"sa"})
+    private String user;
+
+    @Param({""})
+    private String password;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private PreparedStatement lookup;
+    private final List<Object> existingKeys = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, user, password);
+        String keyType = isBinary() ? "BINARY(16)" : "VARCHAR(36)";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS uuid_bench_" + layout);
+            statement.execute("CREATE TABLE uuid_bench_" + layout + " ("
+                    + "user_id " + keyType + " NOT NULL PRIMARY KEY, "
+                    + "nickname VARCHAR(255), "
+                    + "reward BIGINT)");
+        }
+        insert = connection.prepareStatement(
+                "INSERT INTO uuid_bench_" + layout + " (user_id, nickname, reward) VALUES (?, ?, ?)");
+        lookup = connection.prepareStatement(
+                "SELECT nickname, reward FROM uuid_bench_" + layout + " WHERE user_id = ?");
+
+        for (int loaded = 0; loaded < preloadRows; loaded += INSERT_BATCH) {
+            insertBatch(true);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS uuid_bench_" + layout);
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INSERT_BATCH)
+    public int insert() throws SQLException {
+        return insertBatch(false);
+    }
+
+    @Benchmark
+    public long lookup() throws SQLException {
+        Object key = existingKeys.get(ThreadLocalRandom.current().nextInt(existingKeys.size()));
+        lookup.setObject(1, key);
+        try (ResultSet resultSet = lookup.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(2) : -1;
+        }
+    }
+
+    @Benchmark
+    public String generateKey() {
+        return isBinary() ? UuidV7.next().toString() : UUID.randomUUID().toString();
+    }
+
+    private int insertBatch(boolean remember) throws SQLException {
+        for (int i = 0; i < INSERT_BATCH; i++) {
+            Object key = nextKey();
+            insert.setObject(1, key);
+            insert.setString(2, "nick-" + i);
+            insert.setLong(3, i);
+            insert.addBatch();
+            if (remember) {
+                existingKeys.add(key);
+            }
+        }
+        return insert.executeBatch().length;
+    }
+
+    private Object nextKey() {
+        return isBinary() ? UuidCodec.toBytes(UuidV7.next().toString()) : UUID.randomUUID().toString();
+    }
+
+    private boolean isBinary() {
+        return layout.startsWith("binary");
+    }
+}
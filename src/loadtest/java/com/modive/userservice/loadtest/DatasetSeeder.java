@@ -0,0 +1,185 @@
+package com.modive.userservice.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+// users / cars 에 합성 데이터를 JDBC 배치로 채움
+// - 가입 시각: months 기간 동안 가입 수가 선형으로 늘어나는 분포 (최근 달일수록 많음), 시각 순으로 삽입되어 UUIDv7 id 도 증가
+// - 이탈: churn-rate 비율이 비활성, 가입 후 평균 churn-mean-days 뒤 지수 분포로 이탈 시각 기록
+// - 차량: 사용자당 0~3대, 평균 cars-per-user, 활성 사용자의 첫 차량만 활성
+public class DatasetSeeder implements ApplicationRunner, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetSeeder.class);
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (user_id, reward, nickname, name, email, alarm, interest, driving_experience,
+                               social_id, social_type, create_date_time, update_date_time, is_active, deactivated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_CAR = """
+            INSERT INTO cars (car_id, user_id, number, active, create_date_time)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String[] INTERESTS = {"ECO", "SAFETY", "FUEL", "INSURANCE", "EV"};
+    private static final String[] SOCIAL_TYPES = {"KAKAO", "GOOGLE", "NAVER"};
+    private static final String CAR_LETTERS = "가나다라마거너더러머버서어저고노도로모보소오조구누두루무부수우주";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int users;
+    private final double carsPerUser;
+    private final int months;
+    private final double churnRate;
+    private final int churnMeanDays;
+    private final int batchSize;
+    private final long randomSeed;
+
+    public DatasetSeeder(JdbcTemplate jdbcTemplate,
+                         @Value("${modive.loadtest.seed.users:100000}") int users,
+                         @Value("${modive.loadtest.seed.cars-per-user:1.2}") double carsPerUser,
+                         @Value("${modive.loadtest.seed.months:36}") int months,
+                         @Value("${modive.loadtest.seed.churn-rate:0.15}") double churnRate,
+                         @Value("${modive.loadtest.seed.churn-mean-days:120}") int churnMeanDays,
+                         @Value("${modive.loadtest.seed.batch-size:5000}") int batchSize,
+                         @Value("${modive.loadtest.seed.random-seed:42}") long randomSeed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.users = users;
+        this.carsPerUser = Math.max(0, Math.min(3, carsPerUser));
+        this.months = months;
+        this.churnRate = churnRate;
+        this.churnMeanDays = churnMeanDays;
+        this.batchSize = batchSize;
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (users <= 0 || existing != null && existing > 0) {
+            log.info("데이터셋 생성 건너뜀 (요청 {}명, 기존 {}명)", users, existing);
+            return;
+        }
+
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = now.minusMonths(months);
+        long spanSeconds = Duration.between(from, now).getSeconds();
+
+        List<Object[]> userRows = new ArrayList<>(batchSize);
+        List<Object[]> carRows = new ArrayList<>(batchSize * 2);
+        long cars = 0;
+        for (int i = 0; i < users; i++) {
+            // 누적 분포 F(t) = t^2 의 역함수, i 순서대로 시각이 증가
+            double position = Math.sqrt((i + random.nextDouble()) / users);
+            LocalDateTime createdAt = from.plusSeconds((long) (position * spanSeconds));
+            cars += addUser(userRows, carRows, random, i, createdAt, now);
+
+            if (userRows.size() == batchSize) {
+                flush(userRows, carRows);
+                if ((i + 1) % (batchSize * 20) == 0) {
+                    log.info("데이터셋 생성 중: {}/{}명", i + 1, users);
+                }
+            }
+        }
+        flush(userRows, carRows);
+        log.info("데이터셋 생성 완료: 사용자 {}명, 차량 {}대, {}ms",
+                users, cars, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private int addUser(List<Object[]> userRows, List<Object[]> carRows, SplittableRandom random,
+                        int index, LocalDateTime createdAt, LocalDateTime now) {
+        String userId = uuidV7(createdAt, random).toString();
+        boolean active = random.nextDouble() >= churnRate;
+        LocalDateTime updatedAt = createdAt;
+        if (!active) {
+            long churnSeconds = (long) (-Math.log(1 - random.nextDouble()) * churnMeanDays * 86_400);
+            updatedAt = createdAt.plusSeconds(churnSeconds);
+            if (updatedAt.isAfter(now)) {
+                updatedAt = now;
+            }
+        }
+
+        userRows.add(new Object[]{
+                userId,
+                (long) (-Math.log(1 - random.nextDouble()) * 500),
+                "driver" + index,
+                "user" + index,
+                "user" + index + "@loadtest.modive.com",
+                random.nextBoolean(),
+                INTERESTS[random.nextInt(INTERESTS.length)],
+                Math.min(40L, (long) (-Math.log(1 - random.nextDouble()) * 6)),
+                Long.toString(random.nextLong() & Long.MAX_VALUE),
+                SOCIAL_TYPES[random.nextInt(SOCIAL_TYPES.length)],
+                Timestamp.valueOf(createdAt),
+                Timestamp.valueOf(updatedAt),
+                active,
+                active ? null : Timestamp.valueOf(updatedAt)
+        });
+
+        // 0~3 대, 각 자리에서 carsPerUser / 3 확률 (이항분포)
+        int count = 0;
+        for (int slot = 0; slot < 3; slot++) {
+            if (random.nextDouble() < carsPerUser / 3) {
+                count++;
+            }
+        }
+        for (int c = 0; c < count; c++) {
+            LocalDateTime carCreatedAt = createdAt.plusSeconds(random.nextLong(Math.max(1, Duration.between(createdAt, now).getSeconds())));
+            carRows.add(new Object[]{
+                    uuidV7(carCreatedAt, random).toString(),
+                    userId,
+                    carNumber(random),
+                    active && c == 0,
+                    Timestamp.valueOf(carCreatedAt)
+            });
+        }
+        return count;
+    }
+
+    private void flush(List<Object[]> userRows, List<Object[]> carRows) {
+        if (!userRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_USER, userRows);
+            userRows.clear();
+        }
+        if (!carRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CAR, carRows);
+            carRows.clear();
+        }
+    }
+
+    // 과거 시각으로 만드는 UUIDv7 (애플리케이션의 UuidV7 은 현재 시각 기준 단조 증가라 사용하지 않음)
+    private static UUID uuidV7(LocalDateTime at, SplittableRandom random) {
+        long millis = at.toInstant(ZoneOffset.UTC).toEpochMilli();
+        long msb = (millis << 16) | 0x7000L | random.nextInt(1 << 12);
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    private static String carNumber(SplittableRandom random) {
+        return String.format("%02d%c%04d",
+                random.nextInt(10, 100),
+                CAR_LETTERS.charAt(random.nextInt(CAR_LETTERS.length())),
+                random.nextInt(10_000));
+    }
+}
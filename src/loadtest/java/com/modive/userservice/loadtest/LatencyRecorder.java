@@ -0,0 +1,29 @@
+package com.modive.userservice.loadtest;
+
+import java.util.Arrays;
+
+// 워커 스레드 하나가 시나리오 하나에 대해 기록하는 지연 시간 (스레드 간 공유하지 않음)
+class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long nanos, boolean ok) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (!ok) {
+            errors++;
+        }
+    }
+
+    long[] latencies() {
+        return Arrays.copyOf(latencies, count);
+    }
+
+    long errors() {
+        return errors;
+    }
+}
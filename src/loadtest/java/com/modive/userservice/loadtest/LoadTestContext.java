@@ -0,0 +1,149 @@
+package com.modive.userservice.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+// 대상 서버 주소와 요청에 쓸 사용자 샘플
+public class LoadTestContext {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final List<SampleUser> users;
+
+    private LoadTestContext(String baseUrl, ObjectMapper objectMapper, List<SampleUser> users) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.users = users;
+    }
+
+    // 활성 사용자 전체를 export 로 훑으면서 sampleSize 명을 균등 추출 (reservoir sampling)
+    public static LoadTestContext load(HttpClient client, String baseUrl, int sampleSize) throws IOException, InterruptedException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpRequest exportRequest = admin(HttpRequest.newBuilder(URI.create(baseUrl + "/user/export?format=ndjson&active=1")),
+                "loadtest").GET().build();
+        HttpResponse<Stream<String>> response = client.send(exportRequest, HttpResponse.BodyHandlers.ofLines());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("user export failed: HTTP " + response.statusCode());
+        }
+
+        List<JsonNode> reservoir = new ArrayList<>(sampleSize);
+        long seen = 0;
+        try (Stream<String> lines = response.body()) {
+            for (String line : (Iterable<String>) lines::iterator) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                seen++;
+                if (reservoir.size() < sampleSize) {
+                    reservoir.add(objectMapper.readTree(line));
+                } else {
+                    long slot = ThreadLocalRandom.current().nextLong(seen);
+                    if (slot < sampleSize) {
+                        reservoir.set((int) slot, objectMapper.readTree(line));
+                    }
+                }
+            }
+        }
+        if (reservoir.isEmpty()) {
+            throw new IllegalStateException("no active users to drive load with, seed the dataset first");
+        }
+
+        Map<String, List<String>> carIds = loadCarIds(client, baseUrl, objectMapper,
+                reservoir.stream().map(node -> node.get("userId").asText()).toList());
+        List<SampleUser> users = reservoir.stream()
+                .map(node -> new SampleUser(
+                        node.get("userId").asText(),
+                        node.path("nickname").asText(""),
+                        node.path("email").asText(""),
+                        carIds.getOrDefault(node.get("userId").asText(), List.of())))
+                .toList();
+        System.out.printf("sampled %d of %d active users%n", users.size(), seen);
+        return new LoadTestContext(baseUrl, objectMapper, users);
+    }
+
+    public SampleUser randomUser() {
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+
+    public List<String> randomUserIds(int count) {
+        List<String> userIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            userIds.add(randomUser().userId());
+        }
+        return userIds;
+    }
+
+    public HttpRequest build(Scenario scenario, SampleUser user) {
+        return admin(scenario.request(this, user), user.userId())
+                .timeout(REQUEST_TIMEOUT)
+                .build();
+    }
+
+    HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+    }
+
+    HttpRequest.Builder post(String path, Object body) {
+        return json(path, "POST", body);
+    }
+
+    HttpRequest.Builder patch(String path, Object body) {
+        return json(path, "PATCH", body);
+    }
+
+    HttpRequest.Builder delete(String path, Object body) {
+        return json(path, "DELETE", body);
+    }
+
+    private HttpRequest.Builder json(String path, String method, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static HttpRequest.Builder admin(HttpRequest.Builder builder, String userId) {
+        return builder.header("X-USER-ID", userId).header("X-USER-ROLE", "ADMIN");
+    }
+
+    private static Map<String, List<String>> loadCarIds(HttpClient client, String baseUrl, ObjectMapper objectMapper,
+                                                        List<String> userIds) throws IOException, InterruptedException {
+        Map<String, List<String>> carIds = new HashMap<>();
+        for (int from = 0; from < userIds.size(); from += 500) {
+            List<String> chunk = userIds.subList(from, Math.min(from + 500, userIds.size()));
+            HttpRequest request = admin(HttpRequest.newBuilder(URI.create(baseUrl + "/user/batch")), "loadtest")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                            Map.of("userIds", chunk, "includeCars", true))))
+                    .build();
+            JsonNode cars = objectMapper.readTree(client.send(request, HttpResponse.BodyHandlers.ofString()).body())
+                    .path("data").path("cars");
+            cars.fields().forEachRemaining(entry -> {
+                List<String> ids = new ArrayList<>();
+                entry.getValue().forEach(car -> ids.add(car.get("carId").asText()));
+                carIds.put(entry.getKey(), ids);
+            });
+        }
+        return carIds;
+    }
+}
@@ -0,0 +1,54 @@
+package com.modive.userservice.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// 워커별 지연 시간을 합쳐 처리량과 백분위 지연을 계산 (label 은 실행 이름 또는 시나리오 이름)
+public record LoadTestReport(String label, int concurrency, double elapsedSeconds,
+                             long requests, long errors,
+                             double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+
+    public static LoadTestReport of(String label, int concurrency, double elapsedSeconds,
+                                    List<LatencyRecorder> results) {
+        long[] all = results.stream()
+                .map(LatencyRecorder::latencies)
+                .flatMapToLong(Arrays::stream)
+                .sorted()
+                .toArray();
+        long errors = results.stream().mapToLong(LatencyRecorder::errors).sum();
+        return new LoadTestReport(label, concurrency, elapsedSeconds, all.length, errors,
+                percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99),
+                all.length == 0 ? 0 : toMillis(all[all.length - 1]));
+    }
+
+    public double throughput() {
+        return elapsedSeconds == 0 ? 0 : requests / elapsedSeconds;
+    }
+
+    public String summary() {
+        return String.format(Locale.ROOT,
+                "[%s] requests=%d errors=%d throughput=%.1f req/s p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms",
+                label, requests, errors, throughput(), p50Millis, p90Millis, p99Millis, maxMillis);
+    }
+
+    public String toJson() {
+        return String.format(Locale.ROOT,
+                "{\"label\":\"%s\",\"concurrency\":%d,\"elapsedSeconds\":%.3f,\"requests\":%d,\"errors\":%d,"
+                        + "\"throughput\":%.2f,\"p50Millis\":%.3f,\"p90Millis\":%.3f,\"p99Millis\":%.3f,\"maxMillis\":%.3f}",
+                label, concurrency, elapsedSeconds, requests, errors,
+                throughput(), p50Millis, p90Millis, p99Millis, maxMillis);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return toMillis(sorted[Math.max(0, index)]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,156 @@
+package com.modive.userservice.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+// 실행 중인 user-service 에 고정 동시성으로 시나리오 비율(mix)대로 요청을 보내고 처리량/지연 분포를 기록
+// 같은 조건에서 VIRTUAL_THREADS_ENABLED=false/true 로 각각 실행해 label 별 리포트를 비교
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        String label = System.getProperty("loadtest.label", "run");
+        int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+        int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 10);
+        int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 30);
+        int sampleSize = Integer.getInteger("loadtest.sampleSize", 10_000);
+        String reportDir = System.getProperty("loadtest.reportDir", "build/reports/loadtest");
+        Mix mix = Mix.of(Scenario.mix(System.getProperty("loadtest.mix")));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        LoadTestContext context = LoadTestContext.load(client, baseUrl, sampleSize);
+
+        System.out.printf("[%s] warmup %ds, concurrency=%d, mix=%s%n", label, warmupSeconds, concurrency, mix);
+        drive(client, context, mix, concurrency, Duration.ofSeconds(warmupSeconds));
+
+        System.out.printf("[%s] measuring %ds%n", label, durationSeconds);
+        long started = System.nanoTime();
+        List<LatencyRecorder[]> results = drive(client, context, mix, concurrency, Duration.ofSeconds(durationSeconds));
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        LoadTestReport overall = LoadTestReport.of(label, concurrency, elapsedSeconds,
+                results.stream().flatMap(Arrays::stream).toList());
+        List<LoadTestReport> perScenario = new ArrayList<>();
+        for (Scenario scenario : mix.scenarios()) {
+            LoadTestReport report = LoadTestReport.of(scenario.key(), concurrency, elapsedSeconds,
+                    results.stream().map(recorders -> recorders[scenario.ordinal()]).toList());
+            if (report.requests() > 0) {
+                perScenario.add(report);
+            }
+        }
+        System.out.println(overall.summary());
+        perScenario.forEach(report -> System.out.println("  " + report.summary()));
+
+        Path out = Path.of(reportDir, label + ".json");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, "{\"run\":" + overall.toJson() + ",\"scenarios\":["
+                + perScenario.stream().map(LoadTestReport::toJson).collect(Collectors.joining(",")) + "]}\n");
+        System.out.println("report written to " + out.toAbsolutePath());
+    }
+
+    // 서버가 느려지면 요청 간격도 늘어나는 closed-loop 방식 (동시성 = 동시에 처리 중인 요청 수)
+    private static List<LatencyRecorder[]> drive(HttpClient client, LoadTestContext context, Mix mix,
+                                                 int concurrency, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<LatencyRecorder[]>> futures = new ArrayList<>(concurrency);
+            for (int w = 0; w < concurrency; w++) {
+                futures.add(workers.submit(() -> runWorker(client, context, mix, deadline)));
+            }
+            List<LatencyRecorder[]> results = new ArrayList<>(concurrency);
+            for (Future<LatencyRecorder[]> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    private static LatencyRecorder[] runWorker(HttpClient client, LoadTestContext context, Mix mix, long deadline) {
+        LatencyRecorder[] recorders = new LatencyRecorder[Scenario.values().length];
+        for (int i = 0; i < recorders.length; i++) {
+            recorders[i] = new LatencyRecorder();
+        }
+        while (System.nanoTime() < deadline) {
+            Scenario scenario = mix.next();
+            LatencyRecorder recorder = recorders[scenario.ordinal()];
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(context.build(scenario, context.randomUser()),
+                        HttpResponse.BodyHandlers.discarding());
+                recorder.record(System.nanoTime() - start, response.statusCode() < 500);
+            } catch (IOException e) {
+                recorder.record(System.nanoTime() - start, false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return recorders;
+    }
+
+    // 가중치 누적합에서 이분 탐색으로 시나리오 선택
+    record Mix(Scenario[] order, int[] cumulative) {
+
+        static Mix of(Map<Scenario, Integer> weights) {
+            List<Scenario> order = weights.entrySet().stream()
+                    .filter(entry -> entry.getValue() > 0)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (order.isEmpty()) {
+                throw new IllegalArgumentException("loadtest.mix has no scenario with a positive weight");
+            }
+            int[] cumulative = new int[order.size()];
+            int sum = 0;
+            for (int i = 0; i < order.size(); i++) {
+                sum += weights.get(order.get(i));
+                cumulative[i] = sum;
+            }
+            return new Mix(order.toArray(Scenario[]::new), cumulative);
+        }
+
+        Scenario next() {
+            int pick = ThreadLocalRandom.current().nextInt(cumulative[cumulative.length - 1]);
+            int low = 0;
+            int high = cumulative.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid] > pick) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return order[low];
+        }
+
+        List<Scenario> scenarios() {
+            return List.of(order);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < order.length; i++) {
+                builder.append(i == 0 ? "" : ",").append(order[i].key()).append('=')
+                        .append(cumulative[i] - (i == 0 ? 0 : cumulative[i - 1]));
+            }
+            return builder.toString();
+        }
+    }
+}
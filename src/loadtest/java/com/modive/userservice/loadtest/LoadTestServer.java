@@ -0,0 +1,15 @@
+package com.modive.userservice.loadtest;
+
+import com.modive.userservice.UserServiceApplication;
+import org.springframework.boot.SpringApplication;
+
+// loadtest 프로필로 서비스를 띄우면서 DatasetSeeder 를 함께 등록
+// 시더가 다른 ApplicationRunner(통계 backfill)와 ApplicationReadyEvent(검색 색인, Bloom filter)보다 먼저 실행됨
+public class LoadTestServer {
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(UserServiceApplication.class, DatasetSeeder.class);
+        application.setAdditionalProfiles("loadtest");
+        application.run(args);
+    }
+}
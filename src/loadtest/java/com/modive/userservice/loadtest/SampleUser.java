@@ -0,0 +1,7 @@
+package com.modive.userservice.loadtest;
+
+import java.util.List;
+
+// 부하 요청에 쓸 실제 사용자 (export 에서 reservoir sampling, 차량은 /user/batch 로 채움)
+public record SampleUser(String userId, String nickname, String email, List<String> carIds) {
+}
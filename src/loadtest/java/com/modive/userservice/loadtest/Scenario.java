@@ -0,0 +1,213 @@
+package com.modive.userservice.loadtest;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+// UserController 엔드포인트별 요청 생성, 기본 가중치는 대시보드/앱 조회 위주의 운영 비율을 흉내냄
+// 사용자를 비활성화하는 시나리오는 데이터셋을 바꾸므로 기본 0
+public enum Scenario {
+    ME("me", 8) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.get("/user/me");
+        }
+    },
+    BY_ID("byId", 20) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.get("/user/" + user.userId());
+        }
+    },
+    BATCH("batch", 4) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.post("/user/batch", Map.of("userIds", ctx.randomUserIds(50), "includeCars", true));
+        }
+    },
+    EXISTS("exists", 6) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            // 절반은 없는 닉네임 (Bloom filter 에서 바로 응답하는 경로)
+            String nickname = ThreadLocalRandom.current().nextBoolean() ? user.nickname() : "free-" + UUID.randomUUID();
+            return ctx.get("/user/exists?nickname=" + encode(nickname));
+        }
+    },
+    BY_NICKNAME("byNickname", 6) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.get("/user?search=" + encode(user.nickname()));
+        }
+    },
+    LIST("list", 3) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.get("/user/list?size=100");
+        }
+    },
+    EXPORT("export", 0) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.get("/user/export?format=csv&gzip=true");
+        }
+    },
+    CHANGES("changes", 4) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.get("/user/changes?since=0&limit=500");
+        }
+    },
+    NICKNAME("nickname", 2) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.patch("/user/nickname", Map.of("nickname", user.nickname()));
+        }
+    },
+    ALARM("alarm", 2) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.patch("/user/alarm", Map.of("alarm", ThreadLocalRandom.current().nextBoolean()));
+        }
+    },
+    REWARD("reward", 4) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.post("/user/" + user.userId() + "/reward", Map.of("reward", 10))
+                    .header("Idempotency-Key", UUID.randomUUID().toString());
+        }
+    },
+    BULK_REWARD("bulkReward", 1) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.post("/user/bulk/reward", Map.of("items", ctx.randomUserIds(100).stream()
+                    .map(userId -> Map.of("userId", userId, "reward", 5, "idempotencyKey", UUID.randomUUID().toString()))
+                    .toList()));
+        }
+    },
+    BULK_DELETE("bulkDelete", 0) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.post("/user/bulk/delete", Map.of("userIds", ctx.randomUserIds(100)));
+        }
+    },
+    DELETE_ME("deleteMe", 0) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.patch("/user/me/delete", Map.of());
+        }
+    },
+    DELETE_USER("deleteUser", 0) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.post("/user/" + user.userId() + "/delete", Map.of());
+        }
+    },
+    CAR_LIST("carList", 6) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.get("/user/car");
+        }
+    },
+    CAR_ADD("carAdd", 1) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.post("/user/car", Map.of("number", String.format("%02d하%04d",
+                    ThreadLocalRandom.current().nextInt(10, 100), ThreadLocalRandom.current().nextInt(10_000))));
+        }
+    },
+    CAR_ACTIVATE("carActivate", 1) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            if (user.carIds().isEmpty()) {
+                return ctx.get("/user/car");
+            }
+            return ctx.patch("/user/car", Map.of("carId", user.carIds().get(0)));
+        }
+    },
+    CAR_DELETE("carDelete", 0) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            if (user.carIds().isEmpty()) {
+                return ctx.get("/user/car");
+            }
+            return ctx.delete("/user/car", Map.of("carId", user.carIds().get(user.carIds().size() - 1)));
+        }
+    },
+    INTEREST("interest", 3) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.get("/user/interest");
+        }
+    },
+    INTEREST_UPDATE("interestUpdate", 1) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.patch("/user/interest", Map.of("interest", "EV"));
+        }
+    },
+    MONTHLY_STATS("monthlyStats", 4) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.get("/user/monthly-stats");
+        }
+    },
+    SEARCH_EMAIL("searchEmail", 3) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.get("/user/search?searchKeyword=" + encode(user.email()));
+        }
+    },
+    SUGGEST("suggest", 5) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            String nickname = user.nickname();
+            return ctx.get("/user/search/suggest?q=" + encode(nickname.substring(0, Math.min(4, nickname.length()))));
+        }
+    },
+    TOTAL("total", 4) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.get("/user/total");
+        }
+    },
+    TOTAL_CARS("totalCars", 4) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.get("/user/total-cars");
+        }
+    },
+    FILTER("filter", 3) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            int minExperience = ThreadLocalRandom.current().nextInt(0, 10);
+            return ctx.get("/user/filter?minExperience=" + minExperience + "&active=1&page=0&pageSize=20");
+        }
+    },
+    SCROLL("scroll", 3) {
+        HttpRequest.Builder request(LoadTestContext ctx, SampleUser user) {
+            return ctx.get("/user/filter/scroll?active=1&size=50");
+        }
+    };
+
+    private final String key;
+    private final int defaultWeight;
+
+    Scenario(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    // user 는 X-USER-ID 로 보내는 요청 주체이자 대상 (ctx 가 헤더를 붙임)
+    abstract HttpRequest.Builder request(LoadTestContext ctx, SampleUser user);
+
+    public String key() {
+        return key;
+    }
+
+    // "byId=50,export=1" 처럼 일부만 지정하면 나머지는 기본 가중치 유지
+    public static Map<Scenario, Integer> mix(String spec) {
+        Map<Scenario, Integer> weights = new LinkedHashMap<>();
+        for (Scenario scenario : values()) {
+            weights.put(scenario, scenario.defaultWeight);
+        }
+        if (spec == null || spec.isBlank()) {
+            return weights;
+        }
+        for (String entry : spec.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix entry must be name=weight: " + entry);
+            }
+            Scenario scenario = Arrays.stream(values())
+                    .filter(s -> s.key.equalsIgnoreCase(pair[0].trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("unknown scenario '" + pair[0] + "', expected one of "
+                            + Arrays.stream(values()).map(Scenario::key).collect(Collectors.joining(","))));
+            weights.put(scenario, Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,32 @@
+package com.modive.userservice.auth;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+// 게이트웨이가 전달한 X-USER-ID / X-USER-ROLE 을 요청당 한 번 해석한 불변 값
+// 서블릿 요청에 묶이지 않으므로 비동기/배치 스레드로 그대로 넘겨도 됨
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class UserPrincipal {
+
+    public static final String USER_ID_HEADER = "X-USER-ID";
+    public static final String USER_ROLE_HEADER = "X-USER-ROLE";
+
+    private final String userId;
+    private final String role;
+
+    private UserPrincipal(String userId, String role) {
+        this.userId = userId;
+        this.role = role;
+    }
+
+    public static UserPrincipal of(String userId, String role) {
+        return new UserPrincipal(userId, role);
+    }
+
+    public boolean hasRole(String expected) {
+        return role != null && role.equalsIgnoreCase(expected);
+    }
+}
@@ -0,0 +1,33 @@
+package com.modive.userservice.auth;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 요청 헤더를 한 번만 읽어 UserPrincipal 로 만들어 두고, 이후에는 요청 속성에서 꺼내 씀
+@Slf4j
+@Component
+public class UserPrincipalFilter extends OncePerRequestFilter {
+
+    public static final String PRINCIPAL_ATTRIBUTE = UserPrincipal.class.getName();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String userId = request.getHeader(UserPrincipal.USER_ID_HEADER);
+        if (StringUtils.hasText(userId)) {
+            UserPrincipal principal = UserPrincipal.of(userId, request.getHeader(UserPrincipal.USER_ROLE_HEADER));
+            request.setAttribute(PRINCIPAL_ATTRIBUTE, principal);
+            log.debug("resolved principal userId={} role={} uri={}",
+                    principal.getUserId(), principal.getRole(), request.getRequestURI());
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,99 @@
+package com.modive.userservice.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 문자열 Bloom filter, 비트 설정은 CAS 로 처리해 조회/추가 모두 락 없이 동작
+// 거짓 음성은 없고 거짓 양성 비율은 expectedInsertions, fpp 로 결정
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.words = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    // 메모리 상한에 걸리면 비트 수를 줄이고 그만큼 fpp 가 올라감
+    public static BloomFilter create(long expectedInsertions, double fpp, long maxBytes) {
+        long n = Math.max(expectedInsertions, 1);
+        long optimalBits = (long) Math.ceil(-n * Math.log(fpp) / (LN2 * LN2));
+        long bits = Math.max(64, Math.min(optimalBits, maxBytes * 8));
+        int hashes = (int) Math.max(1, Math.round((double) bits / n * LN2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(String value) {
+        long hash64 = fnv1a(value);
+        long h1 = mix(hash64);
+        long h2 = mix(hash64 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << (bit & 63);
+            long current = words.get(index);
+            while ((current & mask) == 0 && !words.compareAndSet(index, current, current | mask)) {
+                current = words.get(index);
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash64 = fnv1a(value);
+        long h1 = mix(hash64);
+        long h2 = mix(hash64 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 설정된 비트 비율 (포화도)
+    public double saturation() {
+        long set = 0;
+        for (int i = 0; i < words.length(); i++) {
+            set += Long.bitCount(words.get(i));
+        }
+        return (double) set / bitSize;
+    }
+
+    // 현재 포화도 기준 거짓 양성 확률 추정치
+    public double estimatedFpp() {
+        return Math.pow(saturation(), hashCount);
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
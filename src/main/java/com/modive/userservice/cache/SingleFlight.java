@@ -0,0 +1,105 @@
+package com.modive.userservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 같은 key 로 동시에 들어온 조회는 먼저 온 한 건만 실행하고 나머지는 그 결과를 공유
+// 결과를 보관하지 않으므로 캐시 앞단(미스 경로)에 두고, supplier 안에서 같은 key 로 다시 호출하지 않아야 함
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, Call<V>> calls = new ConcurrentHashMap<>();
+    private final int maxWaiters;
+
+    private final Counter leaderCounter;
+    private final Counter sharedCounter;
+    private final Counter bypassedCounter;
+
+    public SingleFlight(String name, int maxWaiters, MeterRegistry meterRegistry) {
+        this.maxWaiters = maxWaiters;
+        this.leaderCounter = counter(meterRegistry, name, "leader");
+        this.sharedCounter = counter(meterRegistry, name, "shared");
+        this.bypassedCounter = counter(meterRegistry, name, "bypassed");
+        Gauge.builder("single.flight.collapse.ratio", this, SingleFlight::collapseRatio)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("single.flight.waiters", this, SingleFlight::waiters)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> supplier) {
+        Call<V> call = new Call<>();
+        Call<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight == null) {
+            return lead(key, call, supplier);
+        }
+
+        // 대기자가 너무 많으면 한 호출에 묶이지 않도록 직접 실행 (기존 동작과 같음)
+        if (inFlight.waiters.incrementAndGet() > maxWaiters) {
+            inFlight.waiters.decrementAndGet();
+            bypassedCounter.increment();
+            return supplier.get();
+        }
+        sharedCounter.increment();
+        try {
+            return inFlight.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            inFlight.waiters.decrementAndGet();
+        }
+    }
+
+    public double collapseRatio() {
+        double shared = sharedCounter.count();
+        double total = shared + leaderCounter.count() + bypassedCounter.count();
+        return total == 0 ? 0 : shared / total;
+    }
+
+    private V lead(K key, Call<V> call, Supplier<V> supplier) {
+        leaderCounter.increment();
+        try {
+            V value = supplier.get();
+            call.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    private int waiters() {
+        int total = 0;
+        for (Call<V> call : calls.values()) {
+            total += call.waiters.get();
+        }
+        return total;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String role) {
+        return Counter.builder("single.flight.calls")
+                .tag("name", name)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+
+    private static final class Call<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+}
@@ -0,0 +1,130 @@
+package com.modive.userservice.cache;
+
+import com.modive.userservice.domain.UserCacheEvent;
+import com.modive.userservice.repository.UserCacheEventRepository;
+import com.modive.userservice.search.UserSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 로컬 캐시는 커밋 후 무효화, 다른 레플리카는 user_cache_events 폴링으로 무효화
+@Slf4j
+@Component
+public class UserCacheInvalidator {
+
+    private final UserInfoCache userInfoCache;
+    private final UserSearchIndex userSearchIndex;
+    private final UserExistenceFilter userExistenceFilter;
+    private final UserCacheEventRepository userCacheEventRepository;
+    private final Duration gapTimeout;
+    private final Duration retention;
+    private final int batchSize;
+
+    // poll 은 단일 스케줄러 스레드에서만 실행
+    // 처리한 가장 큰 이벤트 id, 기동 직후 첫 poll 에서 현재 최댓값으로 초기화
+    private long lastEventId = -1;
+    // lastEventId 아래에서 비어 있던 id 와 처음 발견한 시각(System.nanoTime), 늦게 커밋되면 다시 조회됨
+    private final Map<Long, Long> pendingGaps = new HashMap<>();
+
+    public UserCacheInvalidator(UserInfoCache userInfoCache,
+                                UserSearchIndex userSearchIndex,
+                                UserExistenceFilter userExistenceFilter,
+                                UserCacheEventRepository userCacheEventRepository,
+                                @Value("${modive.cache.user-info.broadcast.gap-timeout:60s}") Duration gapTimeout,
+                                @Value("${modive.cache.user-info.broadcast.retention:10m}") Duration retention,
+                                @Value("${modive.cache.user-info.broadcast.batch-size:1000}") int batchSize) {
+        this.userInfoCache = userInfoCache;
+        this.userSearchIndex = userSearchIndex;
+        this.userExistenceFilter = userExistenceFilter;
+        this.userCacheEventRepository = userCacheEventRepository;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    // 호출한 쪽 트랜잭션 안에서 이벤트를 남기고, 커밋되면 로컬 캐시 무효화
+    public void invalidate(String userId) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userInfoCache.evict(userId);
+            userSearchIndex.markDirty(userId);
+            userExistenceFilter.markDirty(userId);
+            return;
+        }
+        userCacheEventRepository.save(UserCacheEvent.of(userId));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userInfoCache.evict(userId);
+            }
+        });
+    }
+
+    // 마지막으로 본 id 이후의 새 이벤트만 무효화, IDENTITY 값은 커밋 순서와 다를 수 있으므로
+    // 건너뛴 id 는 gap-timeout 동안 PK 로 다시 조회해 늦게 커밋된 이벤트도 반영
+    @Scheduled(fixedDelayString = "${modive.cache.user-info.broadcast.poll-interval-ms:1000}")
+    public void poll() {
+        try {
+            if (lastEventId < 0) {
+                lastEventId = userCacheEventRepository.findMaxId();
+                return;
+            }
+            pollGaps();
+            List<UserCacheEvent> events;
+            do {
+                events = userCacheEventRepository.findEventsAfter(lastEventId, PageRequest.of(0, batchSize));
+                for (UserCacheEvent event : events) {
+                    // 비정상적으로 큰 건너뜀은 최근 batch-size 개만 추적
+                    for (long missing = Math.max(lastEventId + 1, event.getId() - batchSize); missing < event.getId(); missing++) {
+                        pendingGaps.put(missing, System.nanoTime());
+                    }
+                    apply(event);
+                    lastEventId = event.getId();
+                }
+            } while (events.size() == batchSize);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 이벤트 조회 실패", e);
+        }
+    }
+
+    private void pollGaps() {
+        if (pendingGaps.isEmpty()) {
+            return;
+        }
+        long expiredBefore = System.nanoTime() - gapTimeout.toNanos();
+        pendingGaps.values().removeIf(noticedAt -> noticedAt - expiredBefore < 0);
+        List<Long> ids = List.copyOf(pendingGaps.keySet());
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            for (UserCacheEvent event : userCacheEventRepository.findEventsIn(ids.subList(from, Math.min(from + batchSize, ids.size())))) {
+                pendingGaps.remove(event.getId());
+                apply(event);
+            }
+        }
+    }
+
+    // 자기 자신이 남긴 이벤트도 여기서 다시 받으므로 검색 색인/중복 확인 필터 갱신은 폴링 경로에서만 처리
+    private void apply(UserCacheEvent event) {
+        userInfoCache.evict(event.getUserId());
+        userSearchIndex.markDirty(event.getUserId());
+        userExistenceFilter.markDirty(event.getUserId());
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${modive.cache.user-info.broadcast.purge-interval-ms:600000}")
+    public void purge() {
+        userCacheEventRepository.deleteOlderThan(LocalDateTime.now().minus(retention));
+    }
+}
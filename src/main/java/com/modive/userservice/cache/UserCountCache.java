@@ -0,0 +1,40 @@
+package com.modive.userservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// 필터 조건별 COUNT(*) 결과를 잠시 보관, 근사 전체 건수로만 사용
+@Component
+public class UserCountCache {
+
+    private final Cache<String, Long> counts;
+    private final SingleFlight<String, Long> countFlight;
+
+    public UserCountCache(@Value("${modive.user.filter.count-cache-ttl:60s}") Duration ttl,
+                          MeterRegistry meterRegistry,
+                          @Value("${modive.single-flight.max-waiters:256}") int maxWaiters) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(ttl)
+                .build();
+        this.countFlight = new SingleFlight<>("user.filter.count", maxWaiters, meterRegistry);
+    }
+
+    // Caffeine compute 안에서 COUNT(*) 를 실행하면 JDBC I/O 동안 bin 락(synchronized)을 잡아
+    // 가상 스레드에서는 캐리어가 고정되므로 밖에서 로드하고 동시 미스는 SingleFlight 로 합침
+    public long get(String filterKey, Supplier<Long> counter) {
+        Long cached = counts.getIfPresent(filterKey);
+        if (cached != null) {
+            return cached;
+        }
+        Long loaded = countFlight.execute(filterKey, counter);
+        counts.put(filterKey, loaded);
+        return loaded;
+    }
+}
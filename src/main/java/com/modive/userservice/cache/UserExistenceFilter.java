@@ -0,0 +1,187 @@
+package com.modive.userservice.cache;
+
+import com.modive.userservice.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.regex.Pattern;
+
+// 닉네임/이메일 사용 여부 안내(GET /user/exists)용 Bloom filter, "없음" 응답은 DB 를 거치지 않음
+// 다른 인스턴스의 가입/변경은 이벤트 폴링 + refresh 주기만큼 늦게 반영되므로 쓰기 경로의 중복 판단에는 쓰지 않음
+// - 기동 시 전체 구축 후 주기적으로 재구축 (삭제/변경으로 남은 값 정리)
+// - 신규 가입자와 변경된 사용자는 UserRowFollower 로 따라감 (변경은 캐시 무효화 이벤트로 markDirty)
+@Slf4j
+@Component
+public class UserExistenceFilter {
+
+    // MySQL 기본 collation 이 대소문자/악센트를 구분하지 않으므로 비슷하게 접어서 해시
+    // (collation 과 완전히 같지는 않음, 예: ß 와 ss 는 collation 에서는 같지만 여기서는 다름)
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final double fpp;
+    private final long maxBytes;
+    private final double headroom;
+    private final UserRowFollower follower;
+
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+
+    private volatile Filters current;
+    // 재구축 중에 들어온 값은 새 필터에도 함께 기록
+    private volatile Filters building;
+
+    public UserExistenceFilter(UserRepository userRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${modive.cache.existence-filter.fpp:0.01}") double fpp,
+                               @Value("${modive.cache.existence-filter.max-bytes:8388608}") long maxBytes,
+                               @Value("${modive.cache.existence-filter.headroom:2.0}") double headroom,
+                               @Value("${modive.cache.existence-filter.batch-size:5000}") int batchSize,
+                               @Value("${modive.cache.existence-filter.signup-overlap:1m}") Duration signupOverlap) {
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+        this.fpp = fpp;
+        this.maxBytes = maxBytes;
+        this.headroom = headroom;
+        this.follower = new UserRowFollower(userRepository, batchSize, signupOverlap);
+
+        registerGauges("nickname", Filters::nickname);
+        registerGauges("email", Filters::email);
+    }
+
+    public boolean nicknameExists(String nickname) {
+        return exists("nickname", nickname, Filters::nickname, userRepository::existsByNickname);
+    }
+
+    public boolean emailExists(String email) {
+        return exists("email", email, Filters::email, userRepository::existsByEmail);
+    }
+
+    public void add(String nickname, String email) {
+        put(current, nickname, email);
+        put(building, nickname, email);
+    }
+
+    public void markDirty(String userId) {
+        follower.markDirty(userId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${modive.cache.existence-filter.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${modive.cache.existence-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        maintenanceLock.lock();
+        try {
+            long expected = Math.max((long) (userRepository.count() * headroom), 10_000L);
+            Filters next = new Filters(BloomFilter.create(expected, fpp, maxBytes / 2),
+                    BloomFilter.create(expected, fpp, maxBytes / 2));
+            building = next;
+
+            follower.scanAll(slice -> slice.forEach(row -> put(next, row.getNickname(), row.getEmail())));
+
+            current = next;
+            building = null;
+            log.info("중복 확인 Bloom filter 구축: 예상 {}건, {} bits x {} hashes (필드당)",
+                    expected, next.nickname().bitSize(), next.nickname().hashCount());
+        } catch (Exception e) {
+            building = null;
+            log.warn("중복 확인 Bloom filter 구축 실패, 기존 필터 유지", e);
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${modive.cache.existence-filter.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (current == null || !maintenanceLock.tryLock()) {
+            return;
+        }
+        try {
+            follower.followNewSignups(rows -> rows.forEach(row -> add(row.getNickname(), row.getEmail())));
+            follower.drainDirty((rows, requested) -> rows.forEach(row -> add(row.getNickname(), row.getEmail())));
+        } catch (Exception e) {
+            log.warn("중복 확인 Bloom filter 갱신 실패", e);
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    private boolean exists(String field, String value, Function<Filters, BloomFilter> filterOf,
+                           Predicate<String> database) {
+        if (value == null) {
+            return false;
+        }
+        Filters filters = current;
+        if (filters == null) {
+            count(field, "bypass");
+            return database.test(value);
+        }
+        if (!filterOf.apply(filters).mightContain(normalize(value))) {
+            count(field, "filtered");
+            return false;
+        }
+        boolean exists = database.test(value);
+        count(field, exists ? "db_hit" : "db_miss");
+        return exists;
+    }
+
+    private void count(String field, String result) {
+        Counter.builder("user.exists.checks")
+                .description("Uniqueness checks by outcome (filtered = answered by the Bloom filter)")
+                .tag("field", field)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void registerGauges(String field, Function<Filters, BloomFilter> filterOf) {
+        ToDoubleFunction<UserExistenceFilter> saturation = self -> self.current == null
+                ? 0 : filterOf.apply(self.current).saturation();
+        ToDoubleFunction<UserExistenceFilter> estimatedFpp = self -> self.current == null
+                ? 0 : filterOf.apply(self.current).estimatedFpp();
+        Gauge.builder("user.exists.filter.saturation", this, saturation)
+                .tag("field", field)
+                .register(meterRegistry);
+        Gauge.builder("user.exists.filter.fpp", this, estimatedFpp)
+                .tag("field", field)
+                .register(meterRegistry);
+    }
+
+    private static void put(Filters filters, String nickname, String email) {
+        if (filters == null) {
+            return;
+        }
+        if (nickname != null) {
+            filters.nickname().put(normalize(nickname));
+        }
+        if (email != null) {
+            filters.email().put(normalize(email));
+        }
+    }
+
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private record Filters(BloomFilter nickname, BloomFilter email) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.modive.userservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.modive.userservice.domain.UserInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+// userId 기준으로 UserInfo 를 보관하고 nickname, email 은 userId 로의 별칭만 보관
+@Component
+public class UserInfoCache {
+
+    private final Cache<String, UserInfo> byUserId;
+    private final Cache<String, String> nicknameIndex;
+    private final Cache<String, String> emailIndex;
+
+    private static final int STAMP_STRIPES = 1024;
+
+    // 무효화 순번, userId 를 나눈 stripe 마다 마지막 무효화 순번을 기록해
+    // 조회를 시작한 뒤 같은 stripe 가 무효화됐으면 캐시에 넣지 않음 (다른 사용자의 무효화는 영향 없음)
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLongArray evictedAt = new AtomicLongArray(STAMP_STRIPES);
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UserInfoCache(MeterRegistry meterRegistry,
+                         @Value("${modive.cache.user-info.maximum-size:10000}") long maximumSize,
+                         @Value("${modive.cache.user-info.ttl:30s}") Duration ttl) {
+        this.byUserId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.nicknameIndex = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.emailIndex = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byUserId, "user.info");
+        this.hitCounter = Counter.builder("user.info.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("user.info.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("user.info.cache.hit.ratio", this, UserInfoCache::hitRatio)
+                .register(meterRegistry);
+    }
+
+    public UserInfo getByUserId(String userId, Function<String, UserInfo> loader) {
+        UserInfo cached = byUserId.getIfPresent(userId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+        // Caffeine compute 안에서 DB 를 읽으면 같은 bin 의 다른 key 까지 막히므로 밖에서 로드
+        // (동시 로드 합치기는 호출하는 쪽 SingleFlight 에서)
+        long before = evictions.get();
+        UserInfo loaded = loader.apply(userId);
+        put(loaded, before);
+        return loaded;
+    }
+
+    // 캐시에 없는 userId 만 모아 loader 로 한 번에 조회, loader 결과에 없는 id 는 캐시하지 않음
+    public Map<String, UserInfo> getAllByUserId(Collection<String> userIds,
+                                                Function<Set<String>, Map<String, UserInfo>> loader) {
+        Map<String, UserInfo> found = new HashMap<>(byUserId.getAllPresent(userIds));
+        Set<String> missing = new HashSet<>(userIds);
+        missing.removeAll(found.keySet());
+        hitCounter.increment(found.size());
+        if (missing.isEmpty()) {
+            return found;
+        }
+        missCounter.increment(missing.size());
+
+        long before = evictions.get();
+        Map<String, UserInfo> loaded = loader.apply(missing);
+        loaded.values().forEach(userInfo -> put(userInfo, before));
+        found.putAll(loaded);
+        return found;
+    }
+
+    public UserInfo getByNickname(String nickname, Function<String, UserInfo> loader) {
+        return getByAlias(nicknameIndex, nickname, UserInfo::getNickname, loader);
+    }
+
+    public UserInfo getByEmail(String email, Function<String, UserInfo> loader) {
+        return getByAlias(emailIndex, email, UserInfo::getEmail, loader);
+    }
+
+    public void evict(String userId) {
+        long stamp = evictions.incrementAndGet();
+        evictedAt.accumulateAndGet(stripe(userId), stamp, Math::max);
+        byUserId.invalidate(userId);
+    }
+
+    public double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private UserInfo getByAlias(Cache<String, String> index,
+                                String alias,
+                                Function<UserInfo, String> aliasOf,
+                                Function<String, UserInfo> loader) {
+        String userId = index.getIfPresent(alias);
+        UserInfo cached = userId != null ? byUserId.getIfPresent(userId) : null;
+        // 별칭이 바뀐 뒤 남아있는 항목은 미스로 처리
+        if (cached != null && alias.equals(aliasOf.apply(cached))) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+
+        long before = evictions.get();
+        UserInfo loaded = loader.apply(alias);
+        put(loaded, before);
+        return loaded;
+    }
+
+    // before 이후에 같은 stripe 가 무효화됐으면 넣지 않고, 넣는 도중 무효화되면 다시 제거
+    private void put(UserInfo userInfo, long before) {
+        if (userInfo == null || evictedSince(userInfo.getUserId(), before)) {
+            return;
+        }
+        byUserId.put(userInfo.getUserId(), userInfo);
+        if (evictedSince(userInfo.getUserId(), before)) {
+            byUserId.invalidate(userInfo.getUserId());
+            return;
+        }
+        index(userInfo);
+    }
+
+    private boolean evictedSince(String userId, long before) {
+        return evictedAt.get(stripe(userId)) > before;
+    }
+
+    private static int stripe(String userId) {
+        return (userId.hashCode() & Integer.MAX_VALUE) % STAMP_STRIPES;
+    }
+
+    private void index(UserInfo userInfo) {
+        if (userInfo == null) {
+            return;
+        }
+        if (userInfo.getNickname() != null) {
+            nicknameIndex.put(userInfo.getNickname(), userInfo.getUserId());
+        }
+        if (userInfo.getEmail() != null) {
+            emailIndex.put(userInfo.getEmail(), userInfo.getUserId());
+        }
+    }
+}
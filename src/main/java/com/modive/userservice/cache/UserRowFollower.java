@@ -0,0 +1,111 @@
+package com.modive.userservice.cache;
+
+import com.modive.userservice.dto.query.UserInfoRow;
+import com.modive.userservice.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+// users 를 메모리 구조(중복 확인 필터, 검색 색인)로 따라가는 공통 루프
+// - scanAll: (createDateTime, userId) keyset 순서로 전체를 읽고 커서를 마지막 행으로
+// - followNewSignups: 커서 이후 가입자를 읽음 (overlap 만큼 겹쳐서)
+// - drainDirty: markDirty 로 모인 userId 를 다시 읽음 (users 에 없으면 rows 에서 빠짐)
+// 커서는 호출한 쪽의 maintenance lock 안에서만 사용, markDirty 는 어느 스레드에서나 호출 가능
+public class UserRowFollower {
+
+    private final UserRepository userRepository;
+    private final int batchSize;
+    private final Duration overlap;
+    private final Set<String> dirtyUserIds = ConcurrentHashMap.newKeySet();
+
+    private LocalDateTime lastCreateDateTime;
+    private String lastUserId;
+
+    public UserRowFollower(UserRepository userRepository, int batchSize, Duration overlap) {
+        this.userRepository = userRepository;
+        this.batchSize = batchSize;
+        this.overlap = overlap;
+    }
+
+    public void markDirty(String userId) {
+        if (userId != null) {
+            dirtyUserIds.add(userId);
+        }
+    }
+
+    // sink 가 실패하면 커서는 그대로
+    public void scanAll(Consumer<List<UserInfoRow>> sink) {
+        LocalDateTime cursorTime = null;
+        String cursorId = null;
+        List<UserInfoRow> slice = userRepository.findFirstSlice(PageRequest.of(0, batchSize));
+        while (!slice.isEmpty()) {
+            sink.accept(slice);
+            UserInfoRow last = slice.get(slice.size() - 1);
+            cursorTime = last.getCreateDateTime();
+            cursorId = last.getUserId();
+            if (slice.size() < batchSize || cursorTime == null) {
+                break;
+            }
+            slice = userRepository.findSliceAfter(cursorTime, cursorId, PageRequest.of(0, batchSize));
+        }
+        lastCreateDateTime = cursorTime;
+        lastUserId = cursorId;
+    }
+
+    // 커서보다 overlap 만큼 앞에서부터 다시 읽음, 다른 서비스가 더 이른 create_date_time 으로 늦게 커밋한 가입도 반영
+    // (겹친 구간의 행은 매번 다시 전달되므로 sink 는 같은 행을 여러 번 받아도 결과가 같아야 함)
+    public void followNewSignups(Consumer<List<UserInfoRow>> sink) {
+        // 구축 시 사용자가 없었으면 처음부터
+        LocalDateTime pageTime = lastCreateDateTime == null ? null : lastCreateDateTime.minus(overlap);
+        String pageId = "";
+        List<UserInfoRow> slice;
+        do {
+            slice = pageTime == null
+                    ? userRepository.findFirstSlice(PageRequest.of(0, batchSize))
+                    : userRepository.findSliceAfter(pageTime, pageId, PageRequest.of(0, batchSize));
+            if (slice.isEmpty()) {
+                return;
+            }
+            sink.accept(slice);
+            UserInfoRow last = slice.get(slice.size() - 1);
+            if (last.getCreateDateTime() == null) {
+                return;
+            }
+            pageTime = last.getCreateDateTime();
+            pageId = last.getUserId();
+            if (isAfterCursor(pageTime, pageId)) {
+                lastCreateDateTime = pageTime;
+                lastUserId = pageId;
+            }
+        } while (slice.size() == batchSize);
+    }
+
+    // sink 에는 다시 읽은 rows 와 요청한 userId chunk 를 함께 전달
+    public void drainDirty(BiConsumer<List<UserInfoRow>, Set<String>> sink) {
+        if (dirtyUserIds.isEmpty()) {
+            return;
+        }
+        List<String> drained = new ArrayList<>(dirtyUserIds);
+        dirtyUserIds.removeAll(drained);
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<String> chunk = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            sink.accept(userRepository.findInfoByUserIdIn(chunk), new HashSet<>(chunk));
+        }
+    }
+
+    private boolean isAfterCursor(LocalDateTime createDateTime, String userId) {
+        if (lastCreateDateTime == null) {
+            return true;
+        }
+        int compared = createDateTime.compareTo(lastCreateDateTime);
+        return compared > 0 || (compared == 0 && userId.compareTo(lastUserId) > 0);
+    }
+}
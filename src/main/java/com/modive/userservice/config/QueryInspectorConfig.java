@@ -0,0 +1,19 @@
+package com.modive.userservice.config;
+
+import com.modive.userservice.metrics.query.QueryInspector;
+import com.modive.userservice.metrics.query.QueryInspectorDataSourcePostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class QueryInspectorConfig {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록
+    @Bean
+    public static QueryInspectorDataSourcePostProcessor queryInspectorDataSourcePostProcessor(
+            Environment environment, ObjectProvider<QueryInspector> queryInspector) {
+        return new QueryInspectorDataSourcePostProcessor(environment, queryInspector);
+    }
+}
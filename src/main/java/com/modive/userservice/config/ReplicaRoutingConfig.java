@@ -0,0 +1,59 @@
+package com.modive.userservice.config;
+
+import com.modive.userservice.datasource.ReadWriteRoutingDataSource;
+import com.modive.userservice.datasource.ReplicaRoutingProperties;
+import com.modive.userservice.datasource.ReplicaSelector;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// modive.datasource.routing.enabled=true 이면 Boot 기본 DataSource 대신 읽기/쓰기 분리 DataSource 를 등록
+@Configuration
+@ConditionalOnProperty(name = "modive.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties,
+                                 ReplicaRoutingProperties routingProperties,
+                                 Environment environment,
+                                 MeterRegistry meterRegistry) {
+        // primary 는 기존 spring.datasource.* / spring.datasource.hikari.* 설정을 그대로 사용
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (ReplicaRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + replica.getName());
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setReadOnly(true);
+            dataSource.setMaximumPoolSize(routingProperties.getMaximumPoolSize());
+            // 레플리카가 내려가 있어도 기동은 되도록 (헬스 체크가 제외 처리)
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(replica.getName(), dataSource);
+        }
+
+        ReplicaSelector selector = new ReplicaSelector(replicas, routingProperties.getLagQuery(),
+                routingProperties.getMaxLag(), meterRegistry);
+        selector.startHealthCheck(routingProperties.getHealthCheckInterval());
+        return new ReadWriteRoutingDataSource(primary, selector);
+    }
+}
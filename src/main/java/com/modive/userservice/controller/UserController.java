@@ -1,21 +1,35 @@
 package com.modive.userservice.controller;
 
+import com.modive.userservice.auth.UserPrincipal;
 import com.modive.userservice.domain.UserInfo;
 import com.modive.userservice.dto.request.*;
 import com.modive.userservice.dto.response.*;
+import com.modive.userservice.exception.MissingLookupKeyException;
+import com.modive.userservice.export.ExportFormat;
 import com.modive.userservice.repository.UserRepository;
+import com.modive.userservice.search.SearchField;
+import com.modive.userservice.search.UserSearchIndex;
 import com.modive.userservice.service.AdminService;
+import com.modive.userservice.service.BulkAdminService;
 import com.modive.userservice.service.CarService;
+import com.modive.userservice.service.UserBatchService;
+import com.modive.userservice.service.UserChangeService;
+import com.modive.userservice.service.UserExportService;
 import com.modive.userservice.service.UserService;
-import com.modive.userservice.util.UserUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
 @Slf4j
@@ -27,15 +41,20 @@ public class UserController {
     private final UserService userService;
     private final CarService carService;
     private final AdminService adminService;
+    private final BulkAdminService bulkAdminService;
+    private final UserBatchService userBatchService;
+    private final UserChangeService userChangeService;
+    private final UserExportService userExportService;
+    private final UserSearchIndex userSearchIndex;
 
     @GetMapping("/me")
-    public ApiResponse<UserResponse> myInfo() {
-        return new ApiResponse<>(HttpStatus.OK, userService.getUser());
+    public ApiResponse<UserResponse> myInfo(UserPrincipal principal) {
+        return new ApiResponse<>(HttpStatus.OK, userService.getUser(principal.getUserId()));
     }
 
     @PatchMapping("/me/delete")
-    public ApiResponse<String> withdraw() {
-        return new ApiResponse<>(HttpStatus.OK, userService.deleteUser());
+    public ApiResponse<String> withdraw(UserPrincipal principal) {
+        return new ApiResponse<>(HttpStatus.OK, userService.deleteUser(principal.getUserId()));
     }
 
     @GetMapping("/{userId}")
@@ -43,6 +62,29 @@ public class UserController {
         return new ApiResponse<>(HttpStatus.OK, userService.getUserByUserId(userId));
     }
 
+    @PostMapping("/batch")
+    public ApiResponse<UserBatchResponse> userInfosByIds(
+            @RequestBody final UserBatchRequest request
+    ) {
+        return new ApiResponse<>(HttpStatus.OK, userBatchService.getUsers(request.getUserIds(), request.isIncludeCars()));
+    }
+
+    // 닉네임/이메일 사용 여부 (안내용), 없는 값은 Bloom filter 에서 바로 응답
+    // 다른 인스턴스의 변경은 갱신 주기만큼 늦게 반영되므로 실제 중복 여부는 닉네임 변경 시 DB 에서 판단
+    @GetMapping("/exists")
+    public ApiResponse<Boolean> exists(
+            @RequestParam(required = false) String nickname,
+            @RequestParam(required = false) String email
+    ) {
+        if (nickname == null && email == null) {
+            throw new MissingLookupKeyException();
+        }
+        boolean exists = nickname != null
+                ? userService.existsByNickname(nickname)
+                : userService.existsByEmail(email);
+        return new ApiResponse<>(HttpStatus.OK, exists);
+    }
+
     @GetMapping
     public ApiResponse<UserInfo> userInfoByNickname(@RequestParam("search") String search) {
         return new ApiResponse<>(HttpStatus.OK, userService.getUserByNickname(search));
@@ -54,74 +96,129 @@ public class UserController {
     }
 
     @GetMapping("/list")
-    public ApiResponse<UserListResponse> getUserList() {
-        return new ApiResponse<>(HttpStatus.OK, adminService.getUserList());
+    public ApiResponse<UserListResponse> getUserList(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        // cursor, size 둘 다 없으면 기존 전체 조회 응답 유지
+        if (cursor == null && size == null) {
+            return new ApiResponse<>(HttpStatus.OK, adminService.getUserList());
+        }
+        return new ApiResponse<>(HttpStatus.OK, adminService.getUserList(cursor, size));
+    }
+
+    // 전체 사용자를 NDJSON/CSV 로 스트리밍 (gzip=true 면 .gz 파일)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) Integer active
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        String filename = "users-" + LocalDate.now() + "." + exportFormat.extension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = outputStream -> userExportService.export(outputStream, exportFormat, gzip, active);
+        return ResponseEntity.ok()
+                .contentType(gzip
+                        ? MediaType.parseMediaType("application/gzip")
+                        : MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    // since 이후 변경분만 sequence 순서로, 응답의 nextSince 를 다음 since 로 사용
+    @GetMapping("/changes")
+    public ApiResponse<UserChangeFeedResponse> getChanges(
+            @RequestParam(defaultValue = "0") Long since,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return new ApiResponse<>(HttpStatus.OK, userChangeService.getChanges(since, limit));
     }
 
     @PatchMapping("/nickname")
     public ApiResponse<String> updateNickname(
+            UserPrincipal principal,
             @RequestBody NicknameRequest request
     ) {
-        userService.updateNickname(request.getNickname());
+        userService.updateNickname(principal.getUserId(), request.getNickname());
         return new ApiResponse<>(HttpStatus.OK);
     }
 
     @PatchMapping("/alarm")
     public ApiResponse<String> updateUserAlarm(
+            UserPrincipal principal,
             @RequestBody AlarmRequest alarm
     ) {
-        userService.updateUserAlarm(alarm.isAlarm());
+        userService.updateUserAlarm(principal.getUserId(), alarm.isAlarm());
         return new ApiResponse<>(HttpStatus.OK);
     }
 
     @PostMapping("/{userId}/reward")
     public ApiResponse<String> updateUserReward(
             @PathVariable("userId") String userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody RewardRequest request
     ) {
-        userService.updateUserReward(userId, request.getReward());
+        userService.updateUserReward(userId, request.getReward(), idempotencyKey);
         return new ApiResponse<>(HttpStatus.OK);
     }
 
+    @PostMapping("/bulk/delete")
+    public ApiResponse<BulkOperationResponse> deleteUsers(
+            @RequestBody final BulkDeactivateRequest request
+    ) {
+        return new ApiResponse<>(HttpStatus.OK, bulkAdminService.deactivateUsers(request.getUserIds()));
+    }
+
+    @PostMapping("/bulk/reward")
+    public ApiResponse<BulkOperationResponse> grantRewards(
+            @RequestBody final BulkRewardRequest request
+    ) {
+        return new ApiResponse<>(HttpStatus.OK, bulkAdminService.grantRewards(request.getItems()));
+    }
+
     @GetMapping("/car")
-    public ApiResponse<CarListResponse> getCarList() {
-        return new ApiResponse<>(HttpStatus.OK, carService.getCarList());
+    public ApiResponse<CarListResponse> getCarList(UserPrincipal principal) {
+        return new ApiResponse<>(HttpStatus.OK, carService.getCarList(principal.getUserId()));
     }
 
     @PostMapping("/car")
     public ApiResponse<String> addCar(
+            UserPrincipal principal,
             @RequestBody final CarNumberRequest request
     ) {
-        carService.addCar(request.getNumber());
+        carService.addCar(principal.getUserId(), request.getNumber());
         return new ApiResponse<>(HttpStatus.OK);
     }
 
     @DeleteMapping("/car")
     public ApiResponse<String> deleteCar(
+            UserPrincipal principal,
             @RequestBody final CarIdRequest request
     ) {
-        carService.deleteCar(request.getCarId());
+        carService.deleteCar(principal.getUserId(), request.getCarId());
         return new ApiResponse<>(HttpStatus.OK);
     }
 
     @PatchMapping("/car")
     public ApiResponse<String> updateCar(
+            UserPrincipal principal,
             @RequestBody final CarIdRequest request
     ) {
-        carService.updateCar(request.getCarId());
+        carService.updateCar(principal.getUserId(), request.getCarId());
         return new ApiResponse<>(HttpStatus.OK);
     }
 
     @GetMapping("/interest")
-    public ApiResponse<String> getInterest() {
-        return new ApiResponse<>(HttpStatus.OK, userService.getInterest());
+    public ApiResponse<String> getInterest(UserPrincipal principal) {
+        return new ApiResponse<>(HttpStatus.OK, userService.getInterest(principal.getUserId()));
     }
 
     @PatchMapping("/interest")
     public ApiResponse<String> updateInterest(
+            UserPrincipal principal,
             @RequestBody final InterestRequest request
     ) {
-        userService.updateUserInterest(request.getInterest());
+        userService.updateUserInterest(principal.getUserId(), request.getInterest());
         return new ApiResponse<>(HttpStatus.OK);
     }
 
@@ -135,6 +232,19 @@ public class UserController {
         return new ApiResponse<>(HttpStatus.OK, adminService.searchByEmail(email));
     }
 
+    // 닉네임/이메일 접두사·부분 일치 검색 (완전 일치 > 접두사 > 부분 문자열 순)
+    @GetMapping("/search/suggest")
+    public ApiResponse<UserSearchResponse> suggest(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String field,
+            @RequestParam(defaultValue = "false") boolean includeInactive,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return new ApiResponse<>(HttpStatus.OK,
+                userSearchIndex.search(query, SearchField.from(field), includeInactive, page, size));
+    }
+
     @GetMapping("/total")
     public ApiResponse<TotalUserChangeResponse> getTotalUser() {
         return new ApiResponse<>(HttpStatus.OK, adminService.getTotalUser());
@@ -166,4 +276,27 @@ public class UserController {
 
         return new ApiResponse<>(HttpStatus.OK, userInfos);
     }
+
+    @GetMapping("/filter/scroll")
+    public ApiResponse<UserSliceResponse> scrollUsers(
+            @RequestParam(required = false) Integer minExperience,
+            @RequestParam(required = false) Integer maxExperience,
+            @RequestParam(required = false) Integer accountAgeInMonths,
+            @RequestParam(required = false) Integer active,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        UserSliceResponse userInfos = adminService.scrollUsers(
+                minExperience,
+                maxExperience,
+                accountAgeInMonths,
+                active,
+                cursor,
+                size,
+                includeTotal
+        );
+
+        return new ApiResponse<>(HttpStatus.OK, userInfos);
+    }
 }
@@ -0,0 +1,55 @@
+package com.modive.userservice.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+// 쓰기/일반 트랜잭션은 primary, readOnly 트랜잭션은 레플리카로 보내는 최상위 DataSource
+// 트랜잭션 매니저가 readOnly 일 때 connection.setReadOnly(true) 를 호출하는 시점까지 실제 커넥션 획득을 미루고,
+// 그 호출이 있으면 read-only 쪽(레플리카 라우팅)에서 커넥션을 가져옴
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final DataSource primary;
+    private final ReplicaSelector replicaSelector;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaSelector replicaSelector) {
+        super(primary);
+        this.primary = primary;
+        this.replicaSelector = replicaSelector;
+
+        Map<Object, Object> targets = new HashMap<>(replicaSelector.getReplicas());
+        targets.put(ReplicaSelector.PRIMARY, primary);
+        AbstractRoutingDataSource readOnlyRouting = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return replicaSelector.select();
+            }
+        };
+        readOnlyRouting.setTargetDataSources(targets);
+        readOnlyRouting.setDefaultTargetDataSource(primary);
+        readOnlyRouting.afterPropertiesSet();
+        setReadOnlyDataSource(readOnlyRouting);
+    }
+
+    public ReplicaSelector getReplicaSelector() {
+        return replicaSelector;
+    }
+
+    @Override
+    public void close() throws IOException {
+        replicaSelector.close();
+        for (DataSource replica : replicaSelector.getReplicas().values()) {
+            if (replica instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+}
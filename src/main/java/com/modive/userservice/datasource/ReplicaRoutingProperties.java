@@ -0,0 +1,39 @@
+package com.modive.userservice.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 레플리카 목록은 개수가 가변이라 @Value 대신 바인딩 클래스로 받음
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "modive.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    private boolean enabled;
+
+    // 이 값보다 뒤처진 레플리카는 읽기 대상에서 제외
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    // 첫 행의 Seconds_Behind_Source 컬럼(MySQL), 없으면 첫 번째 컬럼을 지연 초로 사용
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    private Duration healthCheckInterval = Duration.ofSeconds(1);
+
+    private int maximumPoolSize = 10;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+    }
+}
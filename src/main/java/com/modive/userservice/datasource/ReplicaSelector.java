@@ -0,0 +1,134 @@
+package com.modive.userservice.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 지연이 허용 범위 안인 레플리카를 라운드로빈으로 고르고, 없으면 primary 로 보냄
+@Slf4j
+public class ReplicaSelector implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private static final String MYSQL_LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final Map<String, DataSource> replicas;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private final Map<String, Long> lagSeconds = new ConcurrentHashMap<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+    private volatile List<String> healthy = List.of();
+
+    private final Counter replicaRoutes;
+    private final Counter fallbackRoutes;
+    private ScheduledExecutorService healthCheckExecutor;
+
+    public ReplicaSelector(Map<String, DataSource> replicas, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicas = Collections.unmodifiableMap(replicas);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.replicaRoutes = Counter.builder("datasource.routing")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        this.fallbackRoutes = Counter.builder("datasource.routing")
+                .tag("target", "primary_fallback")
+                .register(meterRegistry);
+        replicas.keySet().forEach(name -> Gauge.builder("datasource.replica.lag", lagSeconds,
+                        lags -> lags.getOrDefault(name, -1L))
+                .description("Replication lag in seconds, -1 when unknown or unreachable")
+                .tag("replica", name)
+                .baseUnit("seconds")
+                .register(meterRegistry));
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public String select() {
+        List<String> candidates = healthy;
+        if (candidates.isEmpty()) {
+            fallbackRoutes.increment();
+            return PRIMARY;
+        }
+        replicaRoutes.increment();
+        return candidates.get(Math.floorMod(cursor.getAndIncrement(), candidates.size()));
+    }
+
+    public void startHealthCheck(Duration interval) {
+        healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthCheckExecutor.scheduleWithFixedDelay(this::checkHealth, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void checkHealth() {
+        List<String> next = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> {
+            long lag = measureLag(name, dataSource);
+            lagSeconds.put(name, lag);
+            if (lag >= 0 && lag <= maxLagSeconds) {
+                next.add(name);
+            }
+        });
+        if (!next.equals(healthy)) {
+            log.info("읽기 레플리카 변경: {} -> {}", healthy, next);
+        }
+        healthy = List.copyOf(next);
+    }
+
+    private long measureLag(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            // 결과가 없으면 복제가 설정되지 않은 것
+            if (!resultSet.next()) {
+                return -1;
+            }
+            Object value = resultSet.getObject(lagColumn(resultSet.getMetaData()));
+            // 복제가 멈춘 경우 MySQL 은 NULL 을 돌려줌
+            return value instanceof Number number ? number.longValue() : -1;
+        } catch (SQLException e) {
+            log.debug("레플리카 {} 지연 확인 실패", name, e);
+            return -1;
+        }
+    }
+
+    private static int lagColumn(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (MYSQL_LAG_COLUMN.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return i;
+            }
+        }
+        return 1;
+    }
+
+    @Override
+    public void close() {
+        if (healthCheckExecutor != null) {
+            healthCheckExecutor.shutdownNow();
+        }
+    }
+}
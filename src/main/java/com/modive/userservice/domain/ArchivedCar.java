@@ -0,0 +1,35 @@
+package com.modive.userservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 보관된 사용자의 차량, users_archive 와 FK 없이 user_id 로만 연결
+@Entity
+@Table(name = "cars_archive", indexes = {
+        @Index(name = "idx_cars_archive_user", columnList = "user_id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedCar {
+
+    @Id
+    @Column(name = "car_id", columnDefinition = "VARCHAR(36)")
+    private String carId;
+
+    @Column(name = "user_id", nullable = false, columnDefinition = "VARCHAR(36)")
+    private String userId;
+
+    @Column(nullable = false)
+    private String number;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    private LocalDateTime createDateTime;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,53 @@
+package com.modive.userservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 오래 비활성 상태인 사용자를 옮겨 두는 cold 테이블, 컬럼은 users 와 같고 archived_at 만 추가
+@Entity
+@Table(name = "users_archive", indexes = {
+        @Index(name = "idx_users_archive_created", columnList = "create_date_time"),
+        @Index(name = "idx_users_archive_deactivated", columnList = "deactivated_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedUser {
+
+    @Id
+    @Column(name = "user_id", columnDefinition = "VARCHAR(36)")
+    private String userId;
+
+    private Long reward;
+
+    private String nickname;
+
+    @Column(nullable = false)
+    private String name;
+
+    private String email;
+
+    private boolean alarm;
+
+    private String interest;
+
+    private Long drivingExperience;
+
+    private String socialId;
+
+    private String socialType;
+
+    private LocalDateTime createDateTime;
+
+    private LocalDateTime updateDateTime;
+
+    private boolean isActive;
+
+    @Column(name = "deactivated_at")
+    private LocalDateTime deactivatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -1,8 +1,8 @@
 package com.modive.userservice.domain;
 
+import com.modive.userservice.domain.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -21,8 +21,7 @@ public class Car {
 
     @Getter
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name="uuid2", strategy = "uuid2")
+    @UuidV7Id
     @Column(name = "car_id", columnDefinition = "VARCHAR(36)")
     private String carId;
 
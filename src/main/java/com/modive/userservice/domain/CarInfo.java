@@ -1,5 +1,6 @@
 package com.modive.userservice.domain;
 
+import com.modive.userservice.dto.query.CarInfoRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,4 +24,12 @@ public class CarInfo {
                 .active(car.isActive())
                 .build();
     }
+
+    public static CarInfo from(CarInfoRow row) {
+        return CarInfo.builder()
+                .carId(row.getCarId())
+                .number(row.getNumber())
+                .active(row.isActive())
+                .build();
+    }
 }
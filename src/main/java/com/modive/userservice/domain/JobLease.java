@@ -0,0 +1,25 @@
+package com.modive.userservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 여러 인스턴스 중 한 곳에서만 주기적으로 실행해야 하는 작업의 임대, expires_at 이 지나면 다른 인스턴스가 가져감
+@Entity
+@Table(name = "job_lease")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLease {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "owner", nullable = false, length = 255)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,22 @@
+package com.modive.userservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 여러 인스턴스 중 한 곳에서 한 번만 실행해야 하는 작업의 완료 표시
+@Entity
+@Table(name = "job_marker")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobMarker {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
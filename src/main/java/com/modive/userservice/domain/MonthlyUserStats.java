@@ -0,0 +1,26 @@
+package com.modive.userservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 월별 가입/이탈/차량 집계 (stats_month = yyyy-MM)
+@Entity
+@Table(name = "monthly_user_stats")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyUserStats {
+
+    @Id
+    @Column(name = "stats_month", columnDefinition = "CHAR(7)")
+    private String statsMonth;
+
+    private long newUsers;
+
+    private long churnedUsers;
+
+    // 해당 월에 등록되어 현재 남아있는 차량 수
+    private long carCount;
+}
@@ -0,0 +1,37 @@
+package com.modive.userservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 리워드 증감 이력 (append-only), 같은 멱등 키는 한 번만 반영
+@Entity
+@Table(name = "reward_ledger", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reward_ledger_idempotency", columnNames = {"user_id", "idempotency_key"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RewardLedger {
+
+    // 더 긴 키는 INSERT IGNORE 에서 잘려 다른 키와 충돌할 수 있으므로 요청 단계에서 거절
+    public static final int IDEMPOTENCY_KEY_MAX_LENGTH = 64;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, columnDefinition = "VARCHAR(36)")
+    private String userId;
+
+    @Column(name = "idempotency_key", length = IDEMPOTENCY_KEY_MAX_LENGTH)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private Long delta;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,8 +1,8 @@
 package com.modive.userservice.domain;
 
+import com.modive.userservice.domain.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -11,7 +11,12 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "USERS")
+@Table(name = "USERS", indexes = {
+        @Index(name = "idx_users_created", columnList = "create_date_time, user_id"),
+        @Index(name = "idx_users_active_created", columnList = "is_active, create_date_time, user_id"),
+        @Index(name = "idx_users_active_deactivated", columnList = "is_active, deactivated_at, user_id"),
+        @Index(name = "idx_users_experience", columnList = "driving_experience")
+})
 @Getter
 @Setter
 @Builder
@@ -22,13 +27,14 @@ public class User {
 
     @Getter
     @Id
-    @GeneratedValue(generator = "uuid2")
-    @GenericGenerator(name="uuid2", strategy = "uuid2")
+    @UuidV7Id
     @Column(name = "user_id", columnDefinition = "VARCHAR(36)")
     private String userId;
 
     private Long reward;
 
+    // 컬럼 collation(utf8mb4_0900_ai_ci) 기준으로 대소문자/악센트만 다른 값도 중복 (scripts/db/017_unique_nickname.sql)
+    @Column(unique = true)
     private String nickname;
 
     @Column(nullable = false)
@@ -56,6 +62,10 @@ public class User {
 
     private boolean isActive;
 
+    // 탈퇴(비활성화) 시각, updateDateTime 은 다른 수정에도 갱신되므로 이탈 통계/보관 기준은 이 컬럼
+    @Column(name = "deactivated_at")
+    private LocalDateTime deactivatedAt;
+
     // 사용자 정보 업데이트 메서드
     public void updateProfile(String nickname, String profileImage) {
         this.nickname = nickname;
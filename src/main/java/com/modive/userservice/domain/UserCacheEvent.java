@@ -0,0 +1,36 @@
+package com.modive.userservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 다른 레플리카에 캐시 무효화를 전달하기 위한 이벤트
+@Entity
+@Table(name = "user_cache_events", indexes = {
+        @Index(name = "idx_user_cache_events_created", columnList = "created_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCacheEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, columnDefinition = "VARCHAR(36)")
+    private String userId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static UserCacheEvent of(final String userId) {
+        return UserCacheEvent.builder()
+                .userId(userId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.modive.userservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 사용자/차량 변경 outbox, id 가 GET /user/changes 의 sequence
+@Entity
+@Table(name = "user_change_outbox", indexes = {
+        @Index(name = "idx_user_change_outbox_created", columnList = "created_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_change_outbox_dedupe", columnNames = "dedupe_key")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 32)
+    private UserChangeType changeType;
+
+    @Column(name = "user_id", nullable = false, columnDefinition = "VARCHAR(36)")
+    private String userId;
+
+    // 차량 변경이면 carId
+    @Column(name = "aggregate_id", columnDefinition = "VARCHAR(36)")
+    private String aggregateId;
+
+    @Column(length = 255)
+    private String payload;
+
+    // 가입처럼 여러 번 감지될 수 있는 변경만 사용, 나머지는 NULL
+    @Column(name = "dedupe_key", length = 64)
+    private String dedupeKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
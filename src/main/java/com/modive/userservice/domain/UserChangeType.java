@@ -0,0 +1,13 @@
+package com.modive.userservice.domain;
+
+// user_change_outbox 에 기록하는 변경 종류
+public enum UserChangeType {
+    USER_CREATED,
+    NICKNAME_CHANGED,
+    REWARD_CHANGED,
+    USER_DEACTIVATED,
+    CAR_ADDED,
+    CAR_DELETED,
+    CAR_ACTIVATED,
+    USER_ARCHIVED
+}
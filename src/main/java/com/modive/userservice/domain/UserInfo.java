@@ -1,5 +1,6 @@
 package com.modive.userservice.domain;
 
+import com.modive.userservice.dto.query.UserInfoRow;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +15,10 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserInfo {
+
+    // DateTimeFormatter 는 불변이라 공유해서 사용
+    private static final DateTimeFormatter JOINED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
     private String userId;
     private String nickname;
     private String email;
@@ -28,9 +33,25 @@ public class UserInfo {
                 .nickname(user.getNickname())
                 .email(user.getEmail())
                 .experience(user.getDrivingExperience())
-                .joinedAt(user.getCreateDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
+                .joinedAt(formatJoinedAt(user.getCreateDateTime()))
                 .seedBalance(user.getReward())
                 .isActive(user.isActive() ? 1L : 0L)
                 .build();
     }
+
+    public static UserInfo from(UserInfoRow row) {
+        return new UserInfo(
+                row.getUserId(),
+                row.getNickname(),
+                row.getEmail(),
+                row.getDrivingExperience(),
+                formatJoinedAt(row.getCreateDateTime()),
+                row.getReward(),
+                Boolean.TRUE.equals(row.getActive()) ? 1L : 0L
+        );
+    }
+
+    private static String formatJoinedAt(LocalDateTime createDateTime) {
+        return createDateTime != null ? createDateTime.format(JOINED_AT_FORMAT) : null;
+    }
 }
@@ -0,0 +1,20 @@
+package com.modive.userservice.domain.id;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// 엔티티/DTO 에서는 문자열 UUID 를 그대로 쓰고 컬럼에는 BINARY(16) 로 저장
+// scripts/db/018_binary_uuid_keys.sql 적용 후 id/FK 컬럼에 @Convert 로 지정
+@Converter
+public class UuidBinaryConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return UuidCodec.toBytes(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return UuidCodec.fromBytes(dbData);
+    }
+}
@@ -0,0 +1,33 @@
+package com.modive.userservice.domain.id;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+// 문자열 UUID <-> BINARY(16) 변환 (MySQL UUID_TO_BIN(x, 0) / BIN_TO_UUID(x, 0) 과 같은 바이트 순서)
+public final class UuidCodec {
+
+    private UuidCodec() {
+    }
+
+    public static byte[] toBytes(String uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        UUID value = UUID.fromString(uuid);
+        return ByteBuffer.allocate(16)
+                .putLong(value.getMostSignificantBits())
+                .putLong(value.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("UUID binary must be 16 bytes: " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
@@ -0,0 +1,43 @@
+package com.modive.userservice.domain.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// RFC 9562 UUIDv7: 상위 48비트 ms 타임스탬프 + 12비트 카운터(같은 ms 안에서 단조 증가) + 62비트 난수
+// 시간 순으로 정렬되므로 PK 인덱스 끝에만 삽입되어 페이지 분할이 줄어듦
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // (millis << 12) | counter, 시계가 뒤로 가도 이전 값보다 커지도록 유지
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    static UUID next(long nowMillis) {
+        long state;
+        while (true) {
+            long previous = LAST.get();
+            long candidate = nowMillis > (previous >>> 12)
+                    // 새 ms 는 카운터를 하위 절반의 임의 값에서 시작해 추측을 어렵게 하고 증가 여유를 남김
+                    ? (nowMillis << 12) | RANDOM.nextInt(1 << 11)
+                    // 같은 ms(또는 시계 역행): 카운터 증가, 넘치면 다음 ms 로 올림
+                    : previous + 1;
+            if (LAST.compareAndSet(previous, candidate)) {
+                state = candidate;
+                break;
+            }
+        }
+        long millis = state >>> 12;
+        long counter = state & 0xFFF;
+        long msb = (millis << 16) | 0x7000L | counter;
+        long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
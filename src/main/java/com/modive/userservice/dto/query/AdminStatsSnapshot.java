@@ -0,0 +1,96 @@
+package com.modive.userservice.dto.query;
+
+import com.modive.userservice.dto.response.MonthlyStatsResponse;
+import com.modive.userservice.dto.response.TotalChangeResponse;
+import com.modive.userservice.dto.response.TotalUserChangeResponse;
+import com.modive.userservice.dto.response.UserTrend;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// /user/total, /user/monthly-stats 가 공유하는 12개월 추이 스냅샷 (불변)
+@Getter
+public class AdminStatsSnapshot {
+
+    private final Instant computedAt;
+    private final TotalUserChangeResponse totalUserChange;
+    private final MonthlyStatsResponse monthlyStats;
+
+    private AdminStatsSnapshot(Instant computedAt,
+                               TotalUserChangeResponse totalUserChange,
+                               MonthlyStatsResponse monthlyStats) {
+        this.computedAt = computedAt;
+        this.totalUserChange = totalUserChange;
+        this.monthlyStats = monthlyStats;
+    }
+
+    public static AdminStatsSnapshot compute(Instant computedAt,
+                                             long newUserCount,
+                                             List<YearMonth> months,
+                                             List<MonthlyStatsDto> userStats,
+                                             List<MonthlyStatsDto> churnStats) {
+        // 월별 누적 가입자 수
+        long totalUser = 0L;
+        Map<String, MonthlyActiveStatsDto> userStatsMap = new HashMap<>();
+        List<MonthlyStatsDto> sortedUserStats = userStats.stream()
+                .sorted(Comparator.comparing(MonthlyStatsDto::getMonthYear))
+                .toList();
+        for (MonthlyStatsDto dto : sortedUserStats) {
+            totalUser += dto.getCount();
+            userStatsMap.put(dto.getMonthYear(), new MonthlyActiveStatsDto(dto.getMonthYear(), dto.getCount(), totalUser));
+        }
+
+        Map<String, Long> churnMap = new HashMap<>();
+        for (MonthlyStatsDto dto : churnStats) {
+            churnMap.put(dto.getMonthYear(), dto.getCount());
+        }
+
+        long finalUser = 0L;
+        long totalChurn = 0L;
+        long priorUsers = 0L;
+        long prior2Users = 0L;
+
+        UserTrend[] userTrends = new UserTrend[months.size()];
+        for (int i = 0; i < months.size(); i++) {
+            YearMonth yearMonth = months.get(i);
+            String monthKey = yearMonth.toString();
+            prior2Users = priorUsers;
+            priorUsers = finalUser;
+            MonthlyActiveStatsDto userStat = userStatsMap.get(monthKey);
+            long churnCount = churnMap.getOrDefault(monthKey, 0L);
+            totalChurn += churnCount;
+            if (userStat != null) {
+                finalUser = userStat.getActiveUsers() - totalChurn;
+            } else {
+                finalUser -= totalChurn;
+            }
+
+            userTrends[i] = new UserTrend(
+                    (long) yearMonth.getYear(),
+                    (long) yearMonth.getMonthValue(),
+                    userStat != null ? userStat.getCount() : 0L,
+                    userStat != null ? finalUser : 0L,
+                    churnCount
+            );
+        }
+
+        TotalUserChangeResponse totalUserChange = TotalUserChangeResponse.of(TotalChangeResponse.of(
+                finalUser,
+                prior2Users == 0 ? 1f : (float) priorUsers / prior2Users - 1f
+        ));
+
+        MonthlyStatsResponse monthlyStats = MonthlyStatsResponse.of(
+                newUserCount,
+                priorUsers == 0 ? 1f : (float) finalUser / priorUsers - 1f,
+                (float) totalChurn / totalUser,
+                userTrends
+        );
+
+        return new AdminStatsSnapshot(computedAt, totalUserChange, monthlyStats);
+    }
+}
@@ -0,0 +1,14 @@
+package com.modive.userservice.dto.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 배치 조회용 차량 projection (소유자 userId 포함)
+@Getter
+@AllArgsConstructor
+public class CarInfoRow {
+    private final String userId;
+    private final String carId;
+    private final String number;
+    private final boolean active;
+}
@@ -0,0 +1,12 @@
+package com.modive.userservice.dto.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RewardDelta {
+    private final String userId;
+    private final String idempotencyKey;
+    private final long delta;
+}
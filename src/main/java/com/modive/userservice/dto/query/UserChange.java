@@ -0,0 +1,49 @@
+package com.modive.userservice.dto.query;
+
+import com.modive.userservice.domain.UserChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// outbox 에 쓸 변경 한 건, payload 는 consumer 가 재조회 여부를 판단할 정도로만
+@Getter
+@AllArgsConstructor
+public class UserChange {
+    private final UserChangeType changeType;
+    private final String userId;
+    private final String aggregateId;
+    private final String payload;
+    private final String dedupeKey;
+
+    public static UserChange created(String userId) {
+        return new UserChange(UserChangeType.USER_CREATED, userId, null, null, "created:" + userId);
+    }
+
+    public static UserChange nicknameChanged(String userId, String nickname) {
+        return new UserChange(UserChangeType.NICKNAME_CHANGED, userId, null, nickname, null);
+    }
+
+    public static UserChange rewardChanged(String userId, long delta) {
+        return new UserChange(UserChangeType.REWARD_CHANGED, userId, null, Long.toString(delta), null);
+    }
+
+    public static UserChange deactivated(String userId) {
+        return new UserChange(UserChangeType.USER_DEACTIVATED, userId, null, null, null);
+    }
+
+    public static UserChange carAdded(String userId, String carId, String number) {
+        return new UserChange(UserChangeType.CAR_ADDED, userId, carId, number, null);
+    }
+
+    public static UserChange carDeleted(String userId, String carId) {
+        return new UserChange(UserChangeType.CAR_DELETED, userId, carId, null, null);
+    }
+
+    public static UserChange carActivated(String userId, String carId) {
+        return new UserChange(UserChangeType.CAR_ACTIVATED, userId, carId, null, null);
+    }
+
+    // 보관 이후에는 /user/{userId} 조회가 users_archive 로 대체됨
+    public static UserChange archived(String userId) {
+        return new UserChange(UserChangeType.USER_ARCHIVED, userId, null, null, "archived:" + userId);
+    }
+}
@@ -0,0 +1,43 @@
+package com.modive.userservice.dto.query;
+
+import com.modive.userservice.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// (createDateTime, userId) 기준 keyset 커서, 외부에는 불투명한 문자열로만 노출
+@Getter
+@AllArgsConstructor
+public class UserCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createDateTime;
+    private final String userId;
+
+    public String encode() {
+        String raw = createDateTime + DELIMITER + userId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            if (index <= 0 || index == raw.length() - 1) {
+                throw new InvalidCursorException();
+            }
+            return new UserCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    raw.substring(index + 1)
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.modive.userservice.dto.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// UserInfo 에 필요한 컬럼만 조회하는 projection (엔티티 생성/스냅샷 없음)
+@Getter
+@AllArgsConstructor
+public class UserInfoRow {
+    private final String userId;
+    private final String nickname;
+    private final String email;
+    private final Long drivingExperience;
+    private final LocalDateTime createDateTime;
+    private final Long reward;
+    private final Boolean active;
+}
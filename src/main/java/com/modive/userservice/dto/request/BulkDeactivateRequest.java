@@ -0,0 +1,12 @@
+package com.modive.userservice.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkDeactivateRequest {
+    private List<String> userIds;
+}
@@ -0,0 +1,20 @@
+package com.modive.userservice.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkRewardRequest {
+    private List<Item> items;
+
+    @Getter
+    @Setter
+    public static class Item {
+        private String userId;
+        private Long reward;
+        private String idempotencyKey;
+    }
+}
@@ -0,0 +1,13 @@
+package com.modive.userservice.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class UserBatchRequest {
+    private List<String> userIds;
+    private boolean includeCars;
+}
@@ -0,0 +1,11 @@
+package com.modive.userservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BulkItemResult {
+    private String userId;
+    private BulkItemStatus status;
+}
@@ -0,0 +1,10 @@
+package com.modive.userservice.dto.response;
+
+public enum BulkItemStatus {
+    DEACTIVATED,
+    ALREADY_INACTIVE,
+    APPLIED,
+    DUPLICATE,
+    NOT_FOUND,
+    FAILED
+}
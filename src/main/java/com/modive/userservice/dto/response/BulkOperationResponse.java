@@ -0,0 +1,31 @@
+package com.modive.userservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResponse {
+
+    private int requested;
+    private int succeeded;
+    private List<BulkItemResult> results;
+
+    public static BulkOperationResponse of(List<BulkItemResult> results) {
+        int succeeded = (int) results.stream()
+                .filter(result -> result.getStatus() == BulkItemStatus.DEACTIVATED
+                        || result.getStatus() == BulkItemStatus.APPLIED)
+                .count();
+        return BulkOperationResponse.builder()
+                .requested(results.size())
+                .succeeded(succeeded)
+                .results(results)
+                .build();
+    }
+}
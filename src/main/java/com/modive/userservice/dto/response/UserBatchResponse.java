@@ -0,0 +1,30 @@
+package com.modive.userservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.modive.userservice.domain.CarInfo;
+import com.modive.userservice.domain.UserInfo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+// userId -> UserInfo, 존재하지 않는 id 는 예외 대신 missing 으로 반환
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchResponse {
+
+    private Map<String, UserInfo> users;
+
+    // includeCars 요청 시에만, userId -> 활성 차량 목록
+    @JsonInclude(NON_NULL)
+    private Map<String, List<CarInfo>> cars;
+
+    private List<String> missing;
+}
@@ -0,0 +1,29 @@
+package com.modive.userservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// consumer 는 nextSince 를 저장해 두었다가 다음 요청의 since 로 사용
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeFeedResponse {
+
+    private List<UserChangeResponse> changes;
+    private long nextSince;
+    private boolean hasMore;
+
+    public static UserChangeFeedResponse of(List<UserChangeResponse> changes, long since, boolean hasMore) {
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSequence();
+        return UserChangeFeedResponse.builder()
+                .changes(changes)
+                .nextSince(nextSince)
+                .hasMore(hasMore)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.modive.userservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.modive.userservice.domain.UserChangeEvent;
+import com.modive.userservice.domain.UserChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeResponse {
+
+    private long sequence;
+    private UserChangeType type;
+    private String userId;
+
+    @JsonInclude(NON_NULL)
+    private String aggregateId;
+
+    @JsonInclude(NON_NULL)
+    private String payload;
+
+    private LocalDateTime occurredAt;
+
+    public static UserChangeResponse from(UserChangeEvent event) {
+        return UserChangeResponse.builder()
+                .sequence(event.getId())
+                .type(event.getChangeType())
+                .userId(event.getUserId())
+                .aggregateId(event.getAggregateId())
+                .payload(event.getPayload())
+                .occurredAt(event.getCreatedAt())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.modive.userservice.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.modive.userservice.domain.UserInfo;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,6 +9,8 @@ import lombok.NoArgsConstructor;
 
 import java.util.List;
 
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
 @Getter
 @Builder
 @NoArgsConstructor
@@ -17,6 +20,10 @@ public class UserListResponse {
     private int length;
     private List<UserInfo> userInfos;
 
+    // 커서 모드에서만 사용, 마지막 페이지면 null
+    @JsonInclude(NON_NULL)
+    private String nextCursor;
+
     public UserListResponse(List<UserInfo> userInfos) {
         this.length = userInfos.size();
         this.userInfos = userInfos;
@@ -29,4 +36,12 @@ public class UserListResponse {
                 .build();
 
     }
+
+    public static UserListResponse of(List<UserInfo> userInfos, String nextCursor) {
+        return UserListResponse.builder()
+                .length(userInfos.size())
+                .userInfos(userInfos)
+                .nextCursor(nextCursor)
+                .build();
+    }
 }
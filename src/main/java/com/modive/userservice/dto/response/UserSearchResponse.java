@@ -0,0 +1,25 @@
+package com.modive.userservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchResponse {
+
+    private String query;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    // 후보 수 상한에 걸려 일부 결과가 잘렸는지 여부
+    private boolean truncated;
+
+    private List<UserSearchResult> results;
+}
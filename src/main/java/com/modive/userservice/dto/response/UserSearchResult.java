@@ -0,0 +1,17 @@
+package com.modive.userservice.dto.response;
+
+import com.modive.userservice.search.MatchType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchResult {
+    private String userId;
+    private String nickname;
+    private String email;
+    private boolean active;
+    private MatchType matchType;
+}
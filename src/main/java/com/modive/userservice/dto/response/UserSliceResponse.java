@@ -0,0 +1,41 @@
+package com.modive.userservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.modive.userservice.domain.UserInfo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+// COUNT 쿼리 없이 다음 페이지 존재 여부만 알려주는 응답
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSliceResponse {
+
+    private List<UserInfo> content;
+    private int size;
+    private boolean hasNext;
+
+    @JsonInclude(NON_NULL)
+    private String nextCursor;
+
+    // includeTotal 요청 시에만, 캐시된 근사값
+    @JsonInclude(NON_NULL)
+    private Long approximateTotal;
+
+    public static UserSliceResponse of(List<UserInfo> content, String nextCursor, Long approximateTotal) {
+        return UserSliceResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .approximateTotal(approximateTotal)
+                .build();
+    }
+}
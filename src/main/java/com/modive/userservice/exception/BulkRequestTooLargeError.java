@@ -0,0 +1,24 @@
+package com.modive.userservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class BulkRequestTooLargeError implements ErrorCode {
+
+    private final HttpStatus httpStatus;
+    private final String message;
+
+    public BulkRequestTooLargeError(int maxItems) {
+        this.httpStatus = HttpStatus.PAYLOAD_TOO_LARGE;
+        this.message = "한 번에 처리할 수 있는 항목 수(" + maxItems + ")를 초과했습니다.";
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,7 @@
+package com.modive.userservice.exception;
+
+public class BulkRequestTooLargeException extends CustomException {
+    public BulkRequestTooLargeException(int maxItems) {
+        super(new BulkRequestTooLargeError(maxItems));
+    }
+}
@@ -0,0 +1,24 @@
+package com.modive.userservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class DuplicateNicknameError implements ErrorCode {
+
+    private final HttpStatus httpStatus;
+    private final String message;
+
+    public DuplicateNicknameError() {
+        this.httpStatus = HttpStatus.CONFLICT;
+        this.message = "이미 사용 중인 닉네임입니다.";
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,7 @@
+package com.modive.userservice.exception;
+
+public class DuplicateNicknameException extends CustomException {
+    public DuplicateNicknameException() {
+        super(new DuplicateNicknameError());
+    }
+}
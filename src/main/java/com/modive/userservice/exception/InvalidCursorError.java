@@ -0,0 +1,24 @@
+package com.modive.userservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorError implements ErrorCode {
+
+    private final HttpStatus httpStatus;
+    private final String message;
+
+    public InvalidCursorError() {
+        this.httpStatus = HttpStatus.BAD_REQUEST;
+        this.message = "유효하지 않은 커서입니다.";
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
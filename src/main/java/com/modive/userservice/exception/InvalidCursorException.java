@@ -0,0 +1,7 @@
+package com.modive.userservice.exception;
+
+public class InvalidCursorException extends CustomException {
+    public InvalidCursorException() {
+        super(new InvalidCursorError());
+    }
+}
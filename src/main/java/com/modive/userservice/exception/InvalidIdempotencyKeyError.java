@@ -0,0 +1,24 @@
+package com.modive.userservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidIdempotencyKeyError implements ErrorCode {
+
+    private final HttpStatus httpStatus;
+    private final String message;
+
+    public InvalidIdempotencyKeyError(int maxLength) {
+        this.httpStatus = HttpStatus.BAD_REQUEST;
+        this.message = "Idempotency-Key 는 " + maxLength + "자 이하여야 합니다.";
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,7 @@
+package com.modive.userservice.exception;
+
+public class InvalidIdempotencyKeyException extends CustomException {
+    public InvalidIdempotencyKeyException(int maxLength) {
+        super(new InvalidIdempotencyKeyError(maxLength));
+    }
+}
@@ -0,0 +1,24 @@
+package com.modive.userservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidSearchFieldError implements ErrorCode {
+
+    private final HttpStatus httpStatus;
+    private final String message;
+
+    public InvalidSearchFieldError() {
+        this.httpStatus = HttpStatus.BAD_REQUEST;
+        this.message = "field 는 NICKNAME, EMAIL, ALL 중 하나여야 합니다.";
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,7 @@
+package com.modive.userservice.exception;
+
+public class InvalidSearchFieldException extends CustomException {
+    public InvalidSearchFieldException() {
+        super(new InvalidSearchFieldError());
+    }
+}
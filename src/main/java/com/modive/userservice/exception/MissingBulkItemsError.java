@@ -0,0 +1,24 @@
+package com.modive.userservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class MissingBulkItemsError implements ErrorCode {
+
+    private final HttpStatus httpStatus;
+    private final String message;
+
+    public MissingBulkItemsError(String field) {
+        this.httpStatus = HttpStatus.BAD_REQUEST;
+        this.message = field + " 가 없거나 null 항목이 포함되어 있습니다.";
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,7 @@
+package com.modive.userservice.exception;
+
+public class MissingBulkItemsException extends CustomException {
+    public MissingBulkItemsException(String field) {
+        super(new MissingBulkItemsError(field));
+    }
+}
@@ -0,0 +1,24 @@
+package com.modive.userservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class MissingLookupKeyError implements ErrorCode {
+
+    private final HttpStatus httpStatus;
+    private final String message;
+
+    public MissingLookupKeyError() {
+        this.httpStatus = HttpStatus.BAD_REQUEST;
+        this.message = "nickname 또는 email 중 하나는 필요합니다.";
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
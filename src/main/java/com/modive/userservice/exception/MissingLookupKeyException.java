@@ -0,0 +1,7 @@
+package com.modive.userservice.exception;
+
+public class MissingLookupKeyException extends CustomException {
+    public MissingLookupKeyException() {
+        super(new MissingLookupKeyError());
+    }
+}
@@ -0,0 +1,24 @@
+package com.modive.userservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class MissingUserPrincipalError implements ErrorCode {
+
+    private final HttpStatus httpStatus;
+    private final String message;
+
+    public MissingUserPrincipalError() {
+        this.httpStatus = HttpStatus.UNAUTHORIZED;
+        this.message = "사용자 식별 정보(X-USER-ID)가 없습니다.";
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
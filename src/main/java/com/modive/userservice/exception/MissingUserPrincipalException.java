@@ -0,0 +1,7 @@
+package com.modive.userservice.exception;
+
+public class MissingUserPrincipalException extends CustomException {
+    public MissingUserPrincipalException() {
+        super(new MissingUserPrincipalError());
+    }
+}
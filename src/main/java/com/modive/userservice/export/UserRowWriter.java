@@ -0,0 +1,93 @@
+package com.modive.userservice.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.modive.userservice.domain.UserInfo;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// 내보내기 한 행씩 직렬화, 필드 구성은 /user/list 의 UserInfo 와 동일
+public abstract class UserRowWriter {
+
+    public static UserRowWriter of(ExportFormat format, ObjectMapper objectMapper) {
+        return switch (format) {
+            case NDJSON -> new Ndjson(objectMapper.writerFor(UserInfo.class));
+            case CSV -> new Csv();
+        };
+    }
+
+    public void writeHeader(Writer writer) throws IOException {
+    }
+
+    public abstract void write(Writer writer, UserInfo userInfo) throws IOException;
+
+    static final class Ndjson extends UserRowWriter {
+
+        private final ObjectWriter objectWriter;
+
+        Ndjson(ObjectWriter objectWriter) {
+            this.objectWriter = objectWriter;
+        }
+
+        @Override
+        public void write(Writer writer, UserInfo userInfo) throws IOException {
+            writer.write(objectWriter.writeValueAsString(userInfo));
+            writer.write('\n');
+        }
+    }
+
+    static final class Csv extends UserRowWriter {
+
+        private static final String HEADER = "userId,nickname,email,experience,joinedAt,seedBalance,isActive\r\n";
+
+        @Override
+        public void writeHeader(Writer writer) throws IOException {
+            writer.write(HEADER);
+        }
+
+        @Override
+        public void write(Writer writer, UserInfo userInfo) throws IOException {
+            field(writer, userInfo.getUserId());
+            writer.write(',');
+            field(writer, userInfo.getNickname());
+            writer.write(',');
+            field(writer, userInfo.getEmail());
+            writer.write(',');
+            field(writer, userInfo.getExperience());
+            writer.write(',');
+            field(writer, userInfo.getJoinedAt());
+            writer.write(',');
+            field(writer, userInfo.getSeedBalance());
+            writer.write(',');
+            field(writer, userInfo.getIsActive());
+            writer.write("\r\n");
+        }
+
+        private static void field(Writer writer, Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value instanceof Number) {
+                writer.write(value.toString());
+                return;
+            }
+            writer.write(escape(value.toString()));
+        }
+
+        // RFC 4180 인용 + 스프레드시트 수식으로 해석되는 값은 앞에 ' 추가 (닉네임은 사용자 입력)
+        static String escape(String value) {
+            if (value.isEmpty()) {
+                return value;
+            }
+            char first = value.charAt(0);
+            if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+                value = "'" + value;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.modive.userservice.job;
+
+import com.modive.userservice.service.DeactivationBackfillService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntUnaryOperator;
+
+// 통계 backfill(StatsRollupJob) 이 deactivated_at 으로 집계하기 전에 먼저 실행
+@Slf4j
+@Component
+@Order(0)
+public class DeactivationBackfillJob implements ApplicationRunner {
+
+    private final DeactivationBackfillService deactivationBackfillService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pauseMs;
+
+    public DeactivationBackfillJob(DeactivationBackfillService deactivationBackfillService,
+                                   @Value("${modive.migration.deactivated-at.enabled:true}") boolean enabled,
+                                   @Value("${modive.migration.deactivated-at.batch-size:5000}") int batchSize,
+                                   @Value("${modive.migration.deactivated-at.pause-ms:50}") long pauseMs) {
+        this.deactivationBackfillService = deactivationBackfillService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int users = drain(deactivationBackfillService::backfillUsers);
+            int archived = drain(deactivationBackfillService::backfillArchivedUsers);
+            if (users + archived > 0) {
+                log.info("deactivated_at backfill 완료: users {}건, users_archive {}건", users, archived);
+            }
+        } catch (Exception e) {
+            log.warn("deactivated_at backfill 실패", e);
+        }
+    }
+
+    // 남은 행이 없을 때까지 batch 반복, 인스턴스가 여러 개여도 같은 행은 한 번만 채워짐
+    private int drain(IntUnaryOperator batch) throws InterruptedException {
+        int total = 0;
+        int updated;
+        do {
+            updated = batch.applyAsInt(batchSize);
+            total += updated;
+            if (updated > 0 && pauseMs > 0) {
+                Thread.sleep(pauseMs);
+            }
+        } while (updated >= batchSize);
+        return total;
+    }
+}
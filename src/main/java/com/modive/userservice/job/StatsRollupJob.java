@@ -0,0 +1,48 @@
+package com.modive.userservice.job;
+
+import com.modive.userservice.service.StatsRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatsRollupJob implements ApplicationRunner {
+
+    private final StatsRollupService statsRollupService;
+
+    @Value("${modive.stats.rollup.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    // 집계 테이블이 비어 있을 때만 1회 backfill
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            if (statsRollupService.isEmpty()) {
+                statsRollupService.backfill();
+            }
+        } catch (Exception e) {
+            log.warn("monthly_user_stats backfill 실패", e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${modive.stats.rollup.reconcile-interval-ms:300000}",
+            fixedDelayString = "${modive.stats.rollup.reconcile-interval-ms:300000}"
+    )
+    public void reconcile() {
+        try {
+            statsRollupService.reconcileRecentSignups();
+        } catch (Exception e) {
+            log.warn("monthly_user_stats 가입 수 보정 실패", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.modive.userservice.job;
+
+import com.modive.userservice.service.UserArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "modive.archive.enabled", havingValue = "true")
+public class UserArchiveJob {
+
+    private final UserArchiveService userArchiveService;
+
+    @Scheduled(cron = "${modive.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        try {
+            userArchiveService.archive();
+        } catch (Exception e) {
+            log.warn("비활성 사용자 보관 실패", e);
+        }
+    }
+}
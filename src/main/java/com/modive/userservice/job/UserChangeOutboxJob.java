@@ -0,0 +1,59 @@
+package com.modive.userservice.job;
+
+import com.modive.userservice.service.JobLeaseService;
+import com.modive.userservice.service.UserChangeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+public class UserChangeOutboxJob {
+
+    private static final String SIGNUP_RELAY_LEASE = "user_change_outbox.signup_relay";
+
+    private final UserChangeService userChangeService;
+    private final JobLeaseService jobLeaseService;
+    private final Duration signupRelayLeaseTtl;
+
+    // 스케줄러 스레드에서만 갱신
+    private boolean signupRelayLeader;
+
+    public UserChangeOutboxJob(UserChangeService userChangeService,
+                               JobLeaseService jobLeaseService,
+                               @Value("${modive.outbox.signup-relay.lease-ttl:30s}") Duration signupRelayLeaseTtl) {
+        this.userChangeService = userChangeService;
+        this.jobLeaseService = jobLeaseService;
+        this.signupRelayLeaseTtl = signupRelayLeaseTtl;
+    }
+
+    // 임대를 가진 인스턴스만 relay, 다른 인스턴스와 INSERT IGNORE 가 겹쳐 outbox sequence 를 버리지 않게 함
+    @Scheduled(fixedDelayString = "${modive.outbox.signup-relay.interval-ms:5000}")
+    public void relaySignups() {
+        try {
+            boolean leader = jobLeaseService.tryAcquire(SIGNUP_RELAY_LEASE, signupRelayLeaseTtl);
+            if (leader && !signupRelayLeader) {
+                // 다른 인스턴스가 relay 하던 동안의 커서는 낡았으므로 outbox 기준으로 다시 잡음
+                userChangeService.resetSignupCursor();
+            }
+            signupRelayLeader = leader;
+            if (leader) {
+                userChangeService.relaySignups();
+            }
+        } catch (Exception e) {
+            log.warn("가입 변경 outbox 기록 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${modive.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        try {
+            userChangeService.purge();
+        } catch (Exception e) {
+            log.warn("user_change_outbox 정리 실패", e);
+        }
+    }
+}
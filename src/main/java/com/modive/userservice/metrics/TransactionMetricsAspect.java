@@ -0,0 +1,80 @@
+package com.modive.userservice.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+
+// 서비스 @Transactional 경계 단위 소요 시간 (커밋/롤백 포함)
+// 트랜잭션 인터셉터보다 바깥에서 감싸도록 우선순위를 높게 둠
+// 이미 트랜잭션 안에서 호출된 참여 메서드(MANDATORY 기록 메서드 등)는 바깥 트랜잭션에 포함되므로 따로 세지 않음
+// TransactionTemplate 으로 시작한 트랜잭션은 TransactionMetricsListener 가 같은 이름으로 기록
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class TransactionMetricsAspect {
+
+    public static final String METRIC_NAME = "service.transaction";
+
+    // 이 aspect 가 재는 호출 안이면 true, 그 안에서 시작되는 트랜잭션은 listener 가 따로 세지 않음
+    private static final ThreadLocal<Boolean> TIMING = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    static boolean isTiming() {
+        return TIMING.get() != null;
+    }
+
+    @Around("within(com.modive.userservice.service..*) && "
+            + "(@annotation(org.springframework.transaction.annotation.Transactional) "
+            + "|| @within(org.springframework.transaction.annotation.Transactional))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        boolean outermost = !isTiming();
+        if (outermost) {
+            TIMING.set(Boolean.TRUE);
+        }
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            if (outermost) {
+                TIMING.remove();
+            }
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Service transaction duration including commit/rollback")
+                    .tag("class", joinPoint.getTarget().getClass().getSimpleName())
+                    .tag("method", method.getName())
+                    .tag("read.only", String.valueOf(isReadOnly(joinPoint, method)))
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    private boolean isReadOnly(ProceedingJoinPoint joinPoint, Method method) {
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(method, Transactional.class);
+        if (transactional == null) {
+            transactional = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Transactional.class);
+        }
+        return transactional != null && transactional.readOnly();
+    }
+}
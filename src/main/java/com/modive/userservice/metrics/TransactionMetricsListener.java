@@ -0,0 +1,64 @@
+package com.modive.userservice.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// TransactionTemplate 으로 시작한 트랜잭션(조회 read-through, 대량 처리 chunk, write-behind flush, 보관 batch)도
+// service.transaction 으로 기록, 트랜잭션 매니저가 새 트랜잭션을 시작/종료할 때만 호출됨 (Boot 가 빈을 자동 등록)
+// TransactionMetricsAspect 가 재고 있는 호출 안에서 시작된 트랜잭션은 그쪽에 포함되므로 건너뜀
+@Component
+@RequiredArgsConstructor
+public class TransactionMetricsListener implements TransactionExecutionListener {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TransactionExecution, Timer.Sample> samples = new ConcurrentHashMap<>();
+
+    // 이름은 "클래스.용도" 형식, class / method 태그로 나뉨
+    public static TransactionTemplate named(TransactionTemplate template, String name) {
+        TransactionTemplate named = new TransactionTemplate(template.getTransactionManager(), template);
+        named.setName(name);
+        return named;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        if (beginFailure == null && !TransactionMetricsAspect.isTiming()) {
+            samples.put(transaction, Timer.start(meterRegistry));
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        stop(transaction, commitFailure == null ? "none" : commitFailure.getClass().getSimpleName());
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, @Nullable Throwable rollbackFailure) {
+        stop(transaction, rollbackFailure == null ? "rollback" : rollbackFailure.getClass().getSimpleName());
+    }
+
+    private void stop(TransactionExecution transaction, String exception) {
+        Timer.Sample sample = samples.remove(transaction);
+        if (sample == null) {
+            return;
+        }
+        String name = transaction.getTransactionName();
+        int dot = name == null ? -1 : name.lastIndexOf('.');
+        sample.stop(Timer.builder(TransactionMetricsAspect.METRIC_NAME)
+                .description("Service transaction duration including commit/rollback")
+                .tag("class", dot < 0 ? "unknown" : name.substring(name.lastIndexOf('.', dot - 1) + 1, dot))
+                .tag("method", dot < 0 ? "unknown" : name.substring(dot + 1))
+                .tag("read.only", String.valueOf(transaction.isReadOnly()))
+                .tag("exception", exception)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,33 @@
+package com.modive.userservice.metrics.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 고정 크기 링 버퍼, 쓰기는 락 없이 가장 오래된 항목을 덮어씀
+class BoundedRing<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    BoundedRing(int capacity) {
+        this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+    }
+
+    void add(T item) {
+        long index = sequence.getAndIncrement();
+        slots.set((int) (index % slots.length()), item);
+    }
+
+    List<T> snapshot() {
+        List<T> items = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            T item = slots.get(i);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+}
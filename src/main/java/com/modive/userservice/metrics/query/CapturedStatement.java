@@ -0,0 +1,8 @@
+package com.modive.userservice.metrics.query;
+
+import java.time.Instant;
+
+// 느린 쿼리 버퍼에 남기는 한 건 (바인딩 값 대신 타입만 기록)
+public record CapturedStatement(Instant executedAt, String endpoint, String shape,
+                                String parameterTypes, long elapsedMillis, boolean batch, boolean success) {
+}
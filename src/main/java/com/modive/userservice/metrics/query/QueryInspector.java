@@ -0,0 +1,160 @@
+package com.modive.userservice.metrics.query;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+// JDBC 문장 실행을 받아 느린 쿼리 버퍼와 요청별 N+1 탐지를 수행
+// 샘플링되지 않은 요청은 ThreadLocal 조회와 임계값 비교만 하고 지나감
+@Slf4j
+@Component
+public class QueryInspector implements QueryExecutionListener {
+
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowThresholdMillis;
+    private final int repeatThreshold;
+
+    private final BoundedRing<CapturedStatement> slowStatements;
+    private final BoundedRing<RequestQuerySummary> suspectedNPlusOne;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter slowCounter;
+
+    public QueryInspector(MeterRegistry meterRegistry,
+                          @Value("${modive.query-inspector.enabled:false}") boolean enabled,
+                          @Value("${modive.query-inspector.sample-rate:0.05}") double sampleRate,
+                          @Value("${modive.query-inspector.slow-threshold-ms:200}") long slowThresholdMillis,
+                          @Value("${modive.query-inspector.n-plus-one-threshold:5}") int repeatThreshold,
+                          @Value("${modive.query-inspector.buffer-size:100}") int bufferSize) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowThresholdMillis = slowThresholdMillis;
+        this.repeatThreshold = repeatThreshold;
+        this.slowStatements = new BoundedRing<>(bufferSize);
+        this.suspectedNPlusOne = new BoundedRing<>(bufferSize);
+        this.slowCounter = Counter.builder("db.query.slow")
+                .description("Statements slower than modive.query-inspector.slow-threshold-ms")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public long getSlowThresholdMillis() {
+        return slowThresholdMillis;
+    }
+
+    // 요청 시작 시 호출, 샘플링되면 true
+    boolean begin(String endpoint) {
+        if (!enabled) {
+            return false;
+        }
+        boolean sampled = sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        CURRENT.set(new RequestContext(endpoint, sampled ? new RequestQueryLog() : null));
+        return sampled;
+    }
+
+    void end(String endpoint) {
+        RequestContext context = CURRENT.get();
+        CURRENT.remove();
+        if (context == null || context.log == null) {
+            return;
+        }
+        RequestQueryLog queryLog = context.log;
+        DistributionSummary.builder("db.statements.per.request")
+                .description("JDBC statements issued by one sampled request")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(queryLog.statementCount());
+
+        List<RequestQuerySummary.RepeatedShape> repeated = queryLog.repeatedShapes(repeatThreshold);
+        if (repeated.isEmpty()) {
+            return;
+        }
+        Counter.builder("db.query.n-plus-one")
+                .description("Sampled requests repeating the same statement shape")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .increment();
+        suspectedNPlusOne.add(new RequestQuerySummary(Instant.now(), endpoint,
+                queryLog.statementCount(), queryLog.totalMillis(), repeated));
+        log.warn("possible N+1 on {}: {} statements, repeated shapes {}", endpoint, queryLog.statementCount(), repeated);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestContext context = CURRENT.get();
+        long elapsed = execInfo.getElapsedTime();
+        boolean slow = elapsed >= slowThresholdMillis;
+        if (!slow && (context == null || context.log == null)) {
+            return;
+        }
+
+        for (QueryInfo queryInfo : queryInfoList) {
+            String shape = SqlShape.normalize(queryInfo.getQuery());
+            if (context != null && context.log != null) {
+                context.log.record(shape, elapsed);
+            }
+            if (slow) {
+                slowCounter.increment();
+                slowStatements.add(new CapturedStatement(Instant.now(),
+                        context != null ? context.endpoint : "background",
+                        shape, parameterTypes(queryInfo), elapsed, execInfo.isBatch(), execInfo.isSuccess()));
+            }
+        }
+    }
+
+    public List<CapturedStatement> slowest() {
+        return slowStatements.snapshot().stream()
+                .sorted(Comparator.comparingLong(CapturedStatement::elapsedMillis).reversed())
+                .toList();
+    }
+
+    public List<RequestQuerySummary> suspectedNPlusOne() {
+        return suspectedNPlusOne.snapshot().stream()
+                .sorted(Comparator.comparing(RequestQuerySummary::finishedAt).reversed())
+                .toList();
+    }
+
+    // 값은 남기지 않고 첫 번째 파라미터 세트의 타입만 기록
+    private static String parameterTypes(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parameters = queryInfo.getParametersList();
+        if (parameters.isEmpty()) {
+            return "[]";
+        }
+        String types = parameters.get(0).stream()
+                .map(ParameterSetOperation::getArgs)
+                .map(args -> args.length > 1 && args[1] != null ? args[1].getClass().getSimpleName() : "null")
+                .collect(Collectors.joining(", ", "[", "]"));
+        return parameters.size() > 1 ? types + " x" + parameters.size() : types;
+    }
+
+    private record RequestContext(String endpoint, RequestQueryLog log) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.modive.userservice.metrics.query;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+// modive.query-inspector.enabled=true 일 때만 DataSource 를 datasource-proxy 로 감쌈 (꺼져 있으면 오버헤드 없음)
+public class QueryInspectorDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final Environment environment;
+    private final ObjectProvider<QueryInspector> queryInspector;
+
+    public QueryInspectorDataSourcePostProcessor(Environment environment, ObjectProvider<QueryInspector> queryInspector) {
+        this.environment = environment;
+        this.queryInspector = queryInspector;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)
+                || !environment.getProperty("modive.query-inspector.enabled", Boolean.class, false)) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(queryInspector.getObject())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.modive.userservice.metrics.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// GET /actuator/queries : 느린 쿼리 상위 목록과 N+1 의심 요청 (읽기 전용, 웹 노출은 명시적으로 켤 때만)
+@Component
+@Endpoint(id = "queries")
+@RequiredArgsConstructor
+public class QueryInspectorEndpoint {
+
+    private final QueryInspector queryInspector;
+
+    @ReadOperation
+    public Map<String, Object> queries() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("enabled", queryInspector.isEnabled());
+        body.put("sampleRate", queryInspector.getSampleRate());
+        body.put("slowThresholdMillis", queryInspector.getSlowThresholdMillis());
+        body.put("slowest", queryInspector.slowest());
+        body.put("suspectedNPlusOne", queryInspector.suspectedNPlusOne());
+        return body;
+    }
+}
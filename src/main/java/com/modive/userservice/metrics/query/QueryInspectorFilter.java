@@ -0,0 +1,37 @@
+package com.modive.userservice.metrics.query;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// 요청 단위로 쿼리 수집 범위를 열고 닫음 (태그에는 URI 패턴을 사용해 카디널리티 제한)
+@Component
+@RequiredArgsConstructor
+public class QueryInspectorFilter extends OncePerRequestFilter {
+
+    private final QueryInspector queryInspector;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !queryInspector.isEnabled() || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        queryInspector.begin(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            queryInspector.end(request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN"));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.modive.userservice.metrics.query;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 샘플링된 요청 하나에서 실행된 SQL 형태별 횟수 (요청 스레드 전용이라 동기화 없음)
+class RequestQueryLog {
+
+    private final Map<String, Integer> countsByShape = new HashMap<>();
+    private int statementCount;
+    private long totalMillis;
+
+    void record(String shape, long elapsedMillis) {
+        countsByShape.merge(shape, 1, Integer::sum);
+        statementCount++;
+        totalMillis += elapsedMillis;
+    }
+
+    int statementCount() {
+        return statementCount;
+    }
+
+    long totalMillis() {
+        return totalMillis;
+    }
+
+    List<RequestQuerySummary.RepeatedShape> repeatedShapes(int threshold) {
+        return countsByShape.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .map(entry -> new RequestQuerySummary.RepeatedShape(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,12 @@
+package com.modive.userservice.metrics.query;
+
+import java.time.Instant;
+import java.util.List;
+
+// 샘플링된 요청의 쿼리 요약, repeatedShapes 가 비어 있지 않으면 N+1 의심
+public record RequestQuerySummary(Instant finishedAt, String endpoint, int statementCount, long totalMillis,
+                                  List<RepeatedShape> repeatedShapes) {
+
+    public record RepeatedShape(String shape, int count) {
+    }
+}
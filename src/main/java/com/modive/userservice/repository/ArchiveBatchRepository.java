@@ -0,0 +1,106 @@
+package com.modive.userservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 비활성 사용자/차량을 INSERT ... SELECT + DELETE 로 보관 테이블에 옮김, 호출한 쪽 트랜잭션에 참여
+@Repository
+@RequiredArgsConstructor
+public class ArchiveBatchRepository {
+
+    // (deactivated_at, user_id) keyset 순서로 잠그면서 조회, idx_users_active_deactivated 범위만 읽음
+    private static final String LOCK_FIRST_CANDIDATES = """
+            SELECT user_id, deactivated_at FROM users
+            WHERE is_active = FALSE AND deactivated_at < :cutoff
+            ORDER BY deactivated_at, user_id
+            LIMIT :limit
+            FOR UPDATE
+            """;
+
+    private static final String LOCK_CANDIDATES_AFTER = """
+            SELECT user_id, deactivated_at FROM users
+            WHERE is_active = FALSE AND deactivated_at < :cutoff
+              AND (deactivated_at > :afterTs OR (deactivated_at = :afterTs AND user_id > :afterId))
+            ORDER BY deactivated_at, user_id
+            LIMIT :limit
+            FOR UPDATE
+            """;
+
+    private static final String COPY_CARS = """
+            INSERT INTO cars_archive (car_id, user_id, number, active, create_date_time, archived_at)
+            SELECT car_id, user_id, number, active, create_date_time, :archivedAt
+            FROM cars WHERE user_id IN (:userIds)
+            """;
+
+    private static final String DELETE_CARS = """
+            DELETE FROM cars WHERE user_id IN (:userIds)
+            """;
+
+    private static final String COPY_USERS = """
+            INSERT INTO users_archive (user_id, reward, nickname, name, email, alarm, interest, driving_experience,
+                                       social_id, social_type, create_date_time, update_date_time, is_active, deactivated_at,
+                                       archived_at)
+            SELECT user_id, reward, nickname, name, email, alarm, interest, driving_experience,
+                   social_id, social_type, create_date_time, update_date_time, is_active, deactivated_at, :archivedAt
+            FROM users WHERE user_id IN (:userIds)
+            """;
+
+    private static final String DELETE_USERS = """
+            DELETE FROM users WHERE user_id IN (:userIds)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<Candidate> lockCandidates(LocalDateTime cutoff, Candidate after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("limit", limit);
+        if (after == null) {
+            return jdbcTemplate.query(LOCK_FIRST_CANDIDATES, params, (rs, rowNum) -> Candidate.from(rs));
+        }
+        params.addValue("afterTs", Timestamp.valueOf(after.deactivatedAt()))
+                .addValue("afterId", after.userId());
+        return jdbcTemplate.query(LOCK_CANDIDATES_AFTER, params, (rs, rowNum) -> Candidate.from(rs));
+    }
+
+    // 옮긴 차량 수
+    public int moveCars(List<String> userIds, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIds", userIds)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+        int copied = jdbcTemplate.update(COPY_CARS, params);
+        int deleted = jdbcTemplate.update(DELETE_CARS, params);
+        if (copied != deleted) {
+            throw new IllegalStateException("cars archive mismatch: copied=" + copied + ", deleted=" + deleted);
+        }
+        return copied;
+    }
+
+    // 옮긴 사용자 수, lockCandidates 로 잠근 id 만 넘겨야 함
+    public int moveUsers(List<String> userIds, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIds", userIds)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+        int copied = jdbcTemplate.update(COPY_USERS, params);
+        int deleted = jdbcTemplate.update(DELETE_USERS, params);
+        if (copied != deleted) {
+            throw new IllegalStateException("users archive mismatch: copied=" + copied + ", deleted=" + deleted);
+        }
+        return copied;
+    }
+
+    public record Candidate(String userId, LocalDateTime deactivatedAt) {
+
+        private static Candidate from(ResultSet rs) throws SQLException {
+            return new Candidate(rs.getString("user_id"), rs.getTimestamp("deactivated_at").toLocalDateTime());
+        }
+    }
+}
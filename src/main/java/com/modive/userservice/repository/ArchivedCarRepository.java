@@ -0,0 +1,30 @@
+package com.modive.userservice.repository;
+
+import com.modive.userservice.domain.ArchivedCar;
+import com.modive.userservice.dto.query.CarInfoRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedCarRepository extends JpaRepository<ArchivedCar, String> {
+
+    @Query("""
+        SELECT new com.modive.userservice.dto.query.CarInfoRow(c.userId, c.carId, c.number, c.active)
+        FROM ArchivedCar c
+        WHERE c.userId IN :userIds AND c.active = true
+        """)
+    List<CarInfoRow> findActiveInfoByUserIdIn(@Param("userIds") Collection<String> userIds);
+
+    @Query("""
+        SELECT YEAR(c.createDateTime), MONTH(c.createDateTime), COUNT(c)
+        FROM ArchivedCar c
+        WHERE c.createDateTime IS NOT NULL
+        GROUP BY YEAR(c.createDateTime), MONTH(c.createDateTime)
+        """)
+    List<Object[]> countCarsByMonth();
+}
@@ -0,0 +1,66 @@
+package com.modive.userservice.repository;
+
+import com.modive.userservice.domain.ArchivedUser;
+import com.modive.userservice.dto.query.UserInfoRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedUserRepository extends JpaRepository<ArchivedUser, String> {
+
+    @Query("""
+        SELECT new com.modive.userservice.dto.query.UserInfoRow(
+            u.userId, u.nickname, u.email, u.drivingExperience, u.createDateTime, u.reward, u.isActive)
+        FROM ArchivedUser u
+        WHERE u.userId = :userId
+        """)
+    Optional<UserInfoRow> findInfoByUserId(@Param("userId") String userId);
+
+    @Query("""
+        SELECT new com.modive.userservice.dto.query.UserInfoRow(
+            u.userId, u.nickname, u.email, u.drivingExperience, u.createDateTime, u.reward, u.isActive)
+        FROM ArchivedUser u
+        WHERE u.userId IN :userIds
+        """)
+    List<UserInfoRow> findInfoByUserIdIn(@Param("userIds") Collection<String> userIds);
+
+    // 월별 집계 backfill / 보정에서 users 와 합산
+    @Query("""
+        SELECT COUNT(u) FROM ArchivedUser u
+        WHERE u.createDateTime >= :from
+          AND u.createDateTime < :to
+        """)
+    long countCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("""
+        SELECT YEAR(u.createDateTime), MONTH(u.createDateTime), COUNT(u)
+        FROM ArchivedUser u
+        WHERE u.createDateTime IS NOT NULL
+        GROUP BY YEAR(u.createDateTime), MONTH(u.createDateTime)
+        """)
+    List<Object[]> countSignupsByMonth();
+
+    @Query("""
+        SELECT YEAR(u.deactivatedAt), MONTH(u.deactivatedAt), COUNT(u)
+        FROM ArchivedUser u
+        WHERE u.deactivatedAt >= :from
+        GROUP BY YEAR(u.deactivatedAt), MONTH(u.deactivatedAt)
+        """)
+    List<Object[]> countChurnsByMonthSince(@Param("from") LocalDateTime from);
+
+    @Modifying
+    @Query(value = """
+        UPDATE users_archive SET deactivated_at = COALESCE(update_date_time, create_date_time)
+        WHERE deactivated_at IS NULL
+        LIMIT :limit
+        """, nativeQuery = true)
+    int backfillDeactivatedAt(@Param("limit") int limit);
+}
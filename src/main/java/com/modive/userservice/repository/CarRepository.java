@@ -1,12 +1,14 @@
 package com.modive.userservice.repository;
 
 import com.modive.userservice.domain.Car;
+import com.modive.userservice.dto.query.CarInfoRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +18,14 @@ public interface CarRepository extends JpaRepository<Car, String> {
 
     List<Car> findByUserUserId(String userId);
 
+    // 여러 유저의 활성 차량, User 를 조인/로딩하지 않고 FK 컬럼만 사용
+    @Query("""
+        SELECT new com.modive.userservice.dto.query.CarInfoRow(c.user.userId, c.carId, c.number, c.active)
+        FROM Car c
+        WHERE c.user.userId IN :userIds AND c.active = true
+        """)
+    List<CarInfoRow> findActiveInfoByUserIdIn(@Param("userIds") Collection<String> userIds);
+
     Optional<Car> findByNumber(String number);
 
     Optional<Car> findByCarIdAndUserUserId(String carId, String userId);
@@ -30,13 +40,13 @@ public interface CarRepository extends JpaRepository<Car, String> {
     void activateUserCar(@Param("carId") String carId, @Param("userId") String userId);
 
 
-    @Query(value = """
-    SELECT
-        COUNT(*) AS total,
-        SUM(CASE WHEN MONTH(DATE(create_date_time)) = MONTH(CURDATE()) THEN 1 ELSE 0 END) AS present,
-        SUM(CASE WHEN MONTH(DATE(create_date_time)) = (MONTH(CURDATE()) + 10) % 12 + 1 THEN 1 ELSE 0 END) AS prior
-    FROM cars
-    """, nativeQuery = true)
-    List<Object[]> countCars();
+    // 월별 집계 backfill 용
+    @Query("""
+        SELECT YEAR(c.createDateTime), MONTH(c.createDateTime), COUNT(c)
+        FROM Car c
+        WHERE c.createDateTime IS NOT NULL
+        GROUP BY YEAR(c.createDateTime), MONTH(c.createDateTime)
+        """)
+    List<Object[]> countCarsByMonth();
 
 }
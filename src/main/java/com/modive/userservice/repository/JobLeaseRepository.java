@@ -0,0 +1,29 @@
+package com.modive.userservice.repository;
+
+import com.modive.userservice.domain.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    // 비어 있거나 만료됐거나 이미 자기 것이면 owner 를 자기로 바꾸고 만료 시각을 연장, 아니면 그대로 둠
+    // 만료 판단은 DB 시계 기준, owner 가 먼저 바뀌므로 expires_at 의 조건은 바뀐 owner 로 평가됨
+    @Modifying
+    @Query(value = """
+        INSERT INTO job_lease (name, owner, expires_at)
+        VALUES (:name, :owner, TIMESTAMPADD(SECOND, :ttlSeconds, CURRENT_TIMESTAMP(6)))
+        ON DUPLICATE KEY UPDATE
+            owner = CASE WHEN expires_at < CURRENT_TIMESTAMP(6) OR owner = VALUES(owner) THEN VALUES(owner) ELSE owner END,
+            expires_at = CASE WHEN owner = VALUES(owner) THEN VALUES(expires_at) ELSE expires_at END
+        """, nativeQuery = true)
+    int upsertIfFree(@Param("name") String name, @Param("owner") String owner, @Param("ttlSeconds") long ttlSeconds);
+
+    @Query(value = "SELECT owner FROM job_lease WHERE name = :name", nativeQuery = true)
+    Optional<String> findOwner(@Param("name") String name);
+}
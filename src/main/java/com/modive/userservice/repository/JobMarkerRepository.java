@@ -0,0 +1,21 @@
+package com.modive.userservice.repository;
+
+import com.modive.userservice.domain.JobMarker;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobMarkerRepository extends JpaRepository<JobMarker, String> {
+
+    // 처음 기록하면 1, 이미 있으면 0
+    // 다른 트랜잭션이 같은 이름을 기록하고 아직 커밋하지 않았으면 그 트랜잭션이 끝날 때까지 대기
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO job_marker (name, created_at)
+        VALUES (:name, CURRENT_TIMESTAMP)
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+}
@@ -0,0 +1,65 @@
+package com.modive.userservice.repository;
+
+import com.modive.userservice.domain.MonthlyUserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MonthlyUserStatsRepository extends JpaRepository<MonthlyUserStats, String> {
+
+    List<MonthlyUserStats> findByStatsMonthBetweenOrderByStatsMonthAsc(String from, String to);
+
+    @Query("SELECT COALESCE(SUM(s.newUsers), 0) FROM MonthlyUserStats s WHERE s.statsMonth < :before")
+    long sumNewUsersBefore(@Param("before") String before);
+
+    @Query("SELECT COALESCE(SUM(s.carCount), 0) FROM MonthlyUserStats s")
+    long sumCarCount();
+
+    // backfill 동안 increment 를 막음 (빈 테이블이어도 gap lock 으로 INSERT 까지 대기)
+    @Query(value = "SELECT stats_month FROM monthly_user_stats FOR UPDATE", nativeQuery = true)
+    List<String> lockAll();
+
+    // 행이 없으면 생성, 있으면 원자적으로 증감
+    @Modifying
+    @Query(value = """
+        INSERT INTO monthly_user_stats (stats_month, new_users, churned_users, car_count)
+        VALUES (:statsMonth, :newUsers, :churnedUsers, :carCount)
+        ON DUPLICATE KEY UPDATE
+            new_users = new_users + VALUES(new_users),
+            churned_users = churned_users + VALUES(churned_users),
+            car_count = car_count + VALUES(car_count)
+        """, nativeQuery = true)
+    int increment(@Param("statsMonth") String statsMonth,
+                  @Param("newUsers") long newUsers,
+                  @Param("churnedUsers") long churnedUsers,
+                  @Param("carCount") long carCount);
+
+    // backfill 용, 원본 테이블에서 다시 계산한 값으로 덮어쓰기
+    @Modifying
+    @Query(value = """
+        INSERT INTO monthly_user_stats (stats_month, new_users, churned_users, car_count)
+        VALUES (:statsMonth, :newUsers, :churnedUsers, :carCount)
+        ON DUPLICATE KEY UPDATE
+            new_users = VALUES(new_users),
+            churned_users = VALUES(churned_users),
+            car_count = VALUES(car_count)
+        """, nativeQuery = true)
+    int overwrite(@Param("statsMonth") String statsMonth,
+                  @Param("newUsers") long newUsers,
+                  @Param("churnedUsers") long churnedUsers,
+                  @Param("carCount") long carCount);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO monthly_user_stats (stats_month, new_users, churned_users, car_count)
+        VALUES (:statsMonth, :newUsers, 0, 0)
+        ON DUPLICATE KEY UPDATE new_users = VALUES(new_users)
+        """, nativeQuery = true)
+    int overwriteNewUsers(@Param("statsMonth") String statsMonth,
+                          @Param("newUsers") long newUsers);
+}
@@ -0,0 +1,45 @@
+package com.modive.userservice.repository;
+
+import com.modive.userservice.dto.query.RewardDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 리워드 원장 / users.reward 를 JDBC 배치로 갱신, 호출한 쪽 트랜잭션에 참여
+@Repository
+@RequiredArgsConstructor
+public class RewardBatchRepository {
+
+    private static final String INSERT_LEDGER = """
+            INSERT IGNORE INTO reward_ledger (user_id, idempotency_key, delta, created_at)
+            VALUES (?, ?, ?, CURRENT_TIMESTAMP)
+            """;
+
+    private static final String INCREMENT_REWARD = """
+            UPDATE users SET reward = COALESCE(reward, 0) + ? WHERE user_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 항목별 반영 건수, 같은 멱등 키가 이미 있으면 0
+    public int[] appendLedger(List<RewardDelta> rewards) {
+        if (rewards.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(INSERT_LEDGER, rewards.stream()
+                .map(reward -> new Object[]{reward.getUserId(), reward.getIdempotencyKey(), reward.getDelta()})
+                .toList());
+    }
+
+    // 항목별 갱신 건수, 유저가 없으면 0
+    public int[] incrementRewards(List<RewardDelta> rewards) {
+        if (rewards.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(INCREMENT_REWARD, rewards.stream()
+                .map(reward -> new Object[]{reward.getDelta(), reward.getUserId()})
+                .toList());
+    }
+}
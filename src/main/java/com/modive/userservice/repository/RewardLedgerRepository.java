@@ -0,0 +1,22 @@
+package com.modive.userservice.repository;
+
+import com.modive.userservice.domain.RewardLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RewardLedgerRepository extends JpaRepository<RewardLedger, Long> {
+
+    // 이미 같은 (user_id, idempotency_key) 가 있으면 0 반환
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO reward_ledger (user_id, idempotency_key, delta, created_at)
+        VALUES (:userId, :idempotencyKey, :delta, CURRENT_TIMESTAMP)
+        """, nativeQuery = true)
+    int append(@Param("userId") String userId,
+               @Param("idempotencyKey") String idempotencyKey,
+               @Param("delta") long delta);
+}
@@ -0,0 +1,31 @@
+package com.modive.userservice.repository;
+
+import com.modive.userservice.domain.UserCacheEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserCacheEventRepository extends JpaRepository<UserCacheEvent, Long> {
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM UserCacheEvent e")
+    long findMaxId();
+
+    // PK range scan
+    @Query("SELECT e FROM UserCacheEvent e WHERE e.id > :after ORDER BY e.id ASC")
+    List<UserCacheEvent> findEventsAfter(@Param("after") long after, Pageable pageable);
+
+    @Query("SELECT e FROM UserCacheEvent e WHERE e.id IN :ids")
+    List<UserCacheEvent> findEventsIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM UserCacheEvent e WHERE e.createdAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,53 @@
+package com.modive.userservice.repository;
+
+import com.modive.userservice.dto.query.UserChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// user_change_outbox 를 JDBC 배치로 기록, 호출한 쪽 트랜잭션에 참여
+@Repository
+@RequiredArgsConstructor
+public class UserChangeBatchRepository {
+
+    private static final String INSERT_CHANGE = """
+            INSERT INTO user_change_outbox (change_type, user_id, aggregate_id, payload, dedupe_key, created_at)
+            VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+            """;
+
+    private static final String INSERT_CHANGE_IF_ABSENT = """
+            INSERT IGNORE INTO user_change_outbox (change_type, user_id, aggregate_id, payload, dedupe_key, created_at)
+            VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(List<UserChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, toArgs(changes));
+    }
+
+    // 항목별 반영 건수, 같은 dedupe 키가 이미 있으면 0
+    public int[] appendIfAbsent(List<UserChange> changes) {
+        if (changes.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(INSERT_CHANGE_IF_ABSENT, toArgs(changes));
+    }
+
+    private static List<Object[]> toArgs(List<UserChange> changes) {
+        return changes.stream()
+                .map(change -> new Object[]{
+                        change.getChangeType().name(),
+                        change.getUserId(),
+                        change.getAggregateId(),
+                        change.getPayload(),
+                        change.getDedupeKey()
+                })
+                .toList();
+    }
+}
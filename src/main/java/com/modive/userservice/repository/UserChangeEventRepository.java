@@ -0,0 +1,42 @@
+package com.modive.userservice.repository;
+
+import com.modive.userservice.domain.UserChangeEvent;
+import com.modive.userservice.domain.UserChangeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserChangeEventRepository extends JpaRepository<UserChangeEvent, Long> {
+
+    // 컷오프는 created_at 을 채우는 DB 시계 기준으로 계산해야 하므로 애플리케이션 시각 대신 사용
+    @Query(value = "SELECT CURRENT_TIMESTAMP(6)", nativeQuery = true)
+    LocalDateTime currentTimestamp();
+
+    // PK range scan, 아직 커밋 중일 수 있는 최근 행은 제외
+    @Query("""
+        SELECT e FROM UserChangeEvent e
+        WHERE e.id > :since AND e.createdAt <= :visibleBefore
+        ORDER BY e.id ASC
+        """)
+    List<UserChangeEvent> findChangesAfter(@Param("since") long since,
+                                           @Param("visibleBefore") LocalDateTime visibleBefore,
+                                           Pageable pageable);
+
+    @Query("SELECT e.dedupeKey FROM UserChangeEvent e WHERE e.dedupeKey IN :dedupeKeys")
+    List<String> findExistingDedupeKeys(@Param("dedupeKeys") Collection<String> dedupeKeys);
+
+    @Query("SELECT e.userId FROM UserChangeEvent e WHERE e.changeType = :changeType ORDER BY e.id DESC")
+    List<String> findLatestUserIds(@Param("changeType") UserChangeType changeType, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM UserChangeEvent e WHERE e.createdAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,22 @@
+package com.modive.userservice.repository;
+
+import com.modive.userservice.domain.User;
+import com.modive.userservice.dto.query.UserInfoRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+// Specification 조건으로 UserInfoRow projection 조회
+public interface UserQueryRepository {
+
+    Page<UserInfoRow> findInfoRows(Specification<User> spec, Pageable pageable);
+
+    List<UserInfoRow> findInfoRows(Specification<User> spec, Sort sort, int limit);
+
+    // 트랜잭션 안에서 닫을 때까지 커서를 열어 둔 채 한 행씩 읽음
+    Stream<UserInfoRow> streamInfoRows(Specification<User> spec, int fetchSize);
+}
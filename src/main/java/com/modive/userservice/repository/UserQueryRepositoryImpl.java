@@ -0,0 +1,91 @@
+package com.modive.userservice.repository;
+
+import com.modive.userservice.domain.User;
+import com.modive.userservice.dto.query.UserInfoRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public class UserQueryRepositoryImpl implements UserQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<UserInfoRow> findInfoRows(Specification<User> spec, Pageable pageable) {
+        TypedQuery<UserInfoRow> query = createInfoQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        // 마지막 페이지가 확실하면 COUNT 생략
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<UserInfoRow> findInfoRows(Specification<User> spec, Sort sort, int limit) {
+        return createInfoQuery(spec, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // projection 이라 영속성 컨텍스트에 엔티티가 쌓이지 않음, fetch size 만큼만 드라이버에 버퍼링
+    @Override
+    public Stream<UserInfoRow> streamInfoRows(Specification<User> spec, int fetchSize) {
+        return createInfoQuery(spec, Sort.unsorted())
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private TypedQuery<UserInfoRow> createInfoQuery(Specification<User> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserInfoRow> query = cb.createQuery(UserInfoRow.class);
+        Root<User> root = query.from(User.class);
+        query.select(cb.construct(UserInfoRow.class,
+                root.get("userId"),
+                root.get("nickname"),
+                root.get("email"),
+                root.get("drivingExperience"),
+                root.get("createDateTime"),
+                root.get("reward"),
+                root.get("isActive")
+        ));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<User> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<User> root = query.from(User.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -2,19 +2,25 @@ package com.modive.userservice.repository;
 
 import com.modive.userservice.domain.User;
 import com.modive.userservice.domain.UserInfo;
+import com.modive.userservice.dto.query.UserInfoRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, String>, JpaSpecificationExecutor<User>, UserQueryRepository {
 
     User findByEmail(String email);
 
@@ -24,42 +30,134 @@ public interface UserRepository extends JpaRepository<User, String> {
 
     boolean existsByNickname(String nickname);
 
+    boolean existsByNicknameAndUserIdNot(String nickname, String userId);
+
     User findByUserId(String userId);
 
     User findByNickname(String nickname);
 
     List<User> findAll();
 
+    // UserInfo 조회용 projection, 엔티티를 영속성 컨텍스트에 올리지 않음
+    @Query("""
+        SELECT new com.modive.userservice.dto.query.UserInfoRow(
+            u.userId, u.nickname, u.email, u.drivingExperience, u.createDateTime, u.reward, u.isActive)
+        FROM User u
+        WHERE u.userId = :userId
+        """)
+    Optional<UserInfoRow> findInfoByUserId(@Param("userId") String userId);
+
+    @Query("""
+        SELECT new com.modive.userservice.dto.query.UserInfoRow(
+            u.userId, u.nickname, u.email, u.drivingExperience, u.createDateTime, u.reward, u.isActive)
+        FROM User u
+        WHERE u.userId IN :userIds
+        """)
+    List<UserInfoRow> findInfoByUserIdIn(@Param("userIds") Collection<String> userIds);
+
+    @Query("""
+        SELECT new com.modive.userservice.dto.query.UserInfoRow(
+            u.userId, u.nickname, u.email, u.drivingExperience, u.createDateTime, u.reward, u.isActive)
+        FROM User u
+        WHERE u.nickname = :nickname
+        """)
+    Optional<UserInfoRow> findInfoByNickname(@Param("nickname") String nickname);
+
+    @Query("""
+        SELECT new com.modive.userservice.dto.query.UserInfoRow(
+            u.userId, u.nickname, u.email, u.drivingExperience, u.createDateTime, u.reward, u.isActive)
+        FROM User u
+        WHERE u.email = :email
+        """)
+    Optional<UserInfoRow> findInfoByEmail(@Param("email") String email);
+
+    @Query("""
+        SELECT new com.modive.userservice.dto.query.UserInfoRow(
+            u.userId, u.nickname, u.email, u.drivingExperience, u.createDateTime, u.reward, u.isActive)
+        FROM User u
+        """)
+    List<UserInfoRow> findAllInfoRows();
+
+    // keyset 페이지네이션: (createDateTime, userId) 순서로 한 구간만 조회
+    @Query("""
+        SELECT new com.modive.userservice.dto.query.UserInfoRow(
+            u.userId, u.nickname, u.email, u.drivingExperience, u.createDateTime, u.reward, u.isActive)
+        FROM User u
+        ORDER BY u.createDateTime ASC, u.userId ASC
+        """)
+    List<UserInfoRow> findFirstSlice(Pageable pageable);
+
+    @Query("""
+        SELECT new com.modive.userservice.dto.query.UserInfoRow(
+            u.userId, u.nickname, u.email, u.drivingExperience, u.createDateTime, u.reward, u.isActive)
+        FROM User u
+        WHERE u.createDateTime > :createDateTime
+           OR (u.createDateTime = :createDateTime AND u.userId > :userId)
+        ORDER BY u.createDateTime ASC, u.userId ASC
+        """)
+    List<UserInfoRow> findSliceAfter(@Param("createDateTime") LocalDateTime createDateTime,
+                                     @Param("userId") String userId,
+                                     Pageable pageable);
+
+    @Query("SELECT MAX(u.createDateTime) FROM User u")
+    Optional<LocalDateTime> findLatestCreateDateTime();
+
     Long deleteUserByUserId(String userId);
 
-    @Query(value = """
-        SELECT
-            DATE_FORMAT(create_date_time, '%Y-%m') AS monthYear,
-            COUNT(*) AS count
-        FROM users
-        GROUP BY DATE_FORMAT(create_date_time, '%Y-%m')
-        ORDER BY monthYear
-        """, nativeQuery = true)
-    List<Object[]> getMonthlyUserStats();
+    @Query("SELECT u.userId FROM User u WHERE u.userId IN :userIds")
+    List<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
 
-    @Query(value = """
-        SELECT
-            DATE_FORMAT(update_date_time, '%Y-%m') AS monthYear,
-            SUM(CASE WHEN is_active = false THEN 1 ELSE 0 END) AS count
-        FROM users
-        GROUP BY DATE_FORMAT(update_date_time, '%Y-%m')
-        ORDER BY monthYear
-        """, nativeQuery = true)
-    List<Object[]> getMonthlyChurnStats();
+    // 대량 비활성화 chunk 용, 활성 사용자 행을 잠가 동시 비활성화와 겹치지 않게 함 (locking read 는 최신 커밋 값을 읽음)
+    @Query(value = "SELECT user_id FROM users WHERE user_id IN (:userIds) AND is_active = TRUE FOR UPDATE", nativeQuery = true)
+    List<String> lockActiveUserIds(@Param("userIds") Collection<String> userIds);
+
+    // 벌크 UPDATE 는 auditing 이 적용되지 않으므로 수정 시각을 직접 기록
+    @Modifying
+    @Query("""
+        UPDATE User u SET u.isActive = false, u.deactivatedAt = :now, u.updateDateTime = :now
+        WHERE u.userId IN :userIds AND u.isActive = true
+        """)
+    int deactivateAll(@Param("userIds") Collection<String> userIds, @Param("now") LocalDateTime now);
+
+    // 읽고 더하지 않고 한 문장으로 원자적으로 증가
+    @Modifying
+    @Query("UPDATE User u SET u.reward = COALESCE(u.reward, 0) + :delta WHERE u.userId = :userId")
+    int incrementReward(@Param("userId") String userId, @Param("delta") long delta);
+
+    @Query("""
+        SELECT COUNT(u) FROM User u
+        WHERE u.createDateTime >= :from
+          AND u.createDateTime < :to
+        """)
+    long countCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 월별 집계 backfill 용
+    @Query("""
+        SELECT YEAR(u.createDateTime), MONTH(u.createDateTime), COUNT(u)
+        FROM User u
+        WHERE u.createDateTime IS NOT NULL
+        GROUP BY YEAR(u.createDateTime), MONTH(u.createDateTime)
+        """)
+    List<Object[]> countSignupsByMonth();
+
+    // idx_users_active_deactivated 범위 조회, 통계 화면이 보여주는 최근 구간만 집계
+    @Query("""
+        SELECT YEAR(u.deactivatedAt), MONTH(u.deactivatedAt), COUNT(u)
+        FROM User u
+        WHERE u.isActive = false
+          AND u.deactivatedAt >= :from
+        GROUP BY YEAR(u.deactivatedAt), MONTH(u.deactivatedAt)
+        """)
+    List<Object[]> countChurnsByMonthSince(@Param("from") LocalDateTime from);
 
+    // deactivated_at 도입 전 비활성화된 사용자는 마지막 수정 시각으로 채움, 0 이 나올 때까지 반복 호출
+    @Modifying
     @Query(value = """
-        SELECT
-            COUNT(*) AS count
-        FROM users
-        WHERE DATE(create_date_time) >= CURDATE() - WEEKDAY(CURDATE()) - 7
-          AND DATE(create_date_time) < CURDATE() - WEEKDAY(CURDATE())
+        UPDATE users SET deactivated_at = COALESCE(update_date_time, create_date_time)
+        WHERE is_active = FALSE AND deactivated_at IS NULL
+        LIMIT :limit
         """, nativeQuery = true)
-    Long getNewUserCount();
+    int backfillDeactivatedAt(@Param("limit") int limit);
 
     Page<User> findAll(Specification<User> spec, Pageable pageable);
 }
@@ -0,0 +1,19 @@
+package com.modive.userservice.search;
+
+// 정렬 우선순위 순서 (완전 일치 > 접두사 > 부분 문자열)
+public enum MatchType {
+    EXACT, PREFIX, SUBSTRING;
+
+    static MatchType of(String value, String query) {
+        if (value == null) {
+            return null;
+        }
+        if (value.equals(query)) {
+            return EXACT;
+        }
+        if (value.startsWith(query)) {
+            return PREFIX;
+        }
+        return value.contains(query) ? SUBSTRING : null;
+    }
+}
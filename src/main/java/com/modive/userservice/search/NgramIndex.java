@@ -0,0 +1,113 @@
+package com.modive.userservice.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+// 한 필드(닉네임 또는 이메일)에 대한 trigram 역색인 + 접두사 검색용 정렬 맵
+// 동기화는 UserSearchIndex 의 read/write lock 이 담당
+class NgramIndex {
+
+    static final int GRAM = 3;
+
+    private final Map<String, Set<String>> postings = new HashMap<>();
+    private final TreeMap<String, Set<String>> sortedValues = new TreeMap<>();
+
+    void add(String userId, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        sortedValues.computeIfAbsent(value, key -> new HashSet<>(2)).add(userId);
+        for (String gram : grams(value)) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(userId);
+        }
+    }
+
+    void remove(String userId, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        removeFrom(sortedValues, value, userId);
+        for (String gram : grams(value)) {
+            removeFrom(postings, gram, userId);
+        }
+    }
+
+    // 접두사 일치 후보 (값 사전순), limit 개까지
+    Set<String> prefixCandidates(String query, int limit) {
+        Set<String> candidates = new LinkedHashSet<>();
+        NavigableMap<String, Set<String>> range =
+                sortedValues.subMap(query, true, query + Character.MAX_VALUE, false);
+        for (Set<String> userIds : range.values()) {
+            for (String userId : userIds) {
+                if (candidates.size() >= limit) {
+                    return candidates;
+                }
+                candidates.add(userId);
+            }
+        }
+        return candidates;
+    }
+
+    // 질의의 모든 trigram 을 포함하는 후보 (실제 포함 여부는 호출한 쪽에서 검증)
+    Set<String> substringCandidates(String query, int limit) {
+        if (query.length() < GRAM) {
+            return Set.of();
+        }
+        List<Set<String>> lists = new ArrayList<>();
+        for (String gram : grams(query)) {
+            Set<String> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<String> candidates = new LinkedHashSet<>();
+        Set<String> smallest = lists.get(0);
+        for (String userId : smallest) {
+            if (candidates.size() >= limit) {
+                break;
+            }
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                inAll = lists.get(i).contains(userId);
+            }
+            if (inAll) {
+                candidates.add(userId);
+            }
+        }
+        return candidates;
+    }
+
+    int gramCount() {
+        return postings.size();
+    }
+
+    static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static void removeFrom(Map<String, Set<String>> map, String key, String userId) {
+        Set<String> userIds = map.get(key);
+        if (userIds == null) {
+            return;
+        }
+        userIds.remove(userId);
+        if (userIds.isEmpty()) {
+            map.remove(key);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.modive.userservice.search;
+
+import com.modive.userservice.exception.InvalidSearchFieldException;
+
+import java.util.Locale;
+
+public enum SearchField {
+    NICKNAME, EMAIL, ALL;
+
+    public static SearchField from(String value) {
+        if (value == null || value.isBlank()) {
+            return NICKNAME;
+        }
+        try {
+            return SearchField.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSearchFieldException();
+        }
+    }
+
+    boolean includesNickname() {
+        return this != EMAIL;
+    }
+
+    boolean includesEmail() {
+        return this != NICKNAME;
+    }
+}
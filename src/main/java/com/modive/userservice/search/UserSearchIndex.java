@@ -0,0 +1,263 @@
+package com.modive.userservice.search;
+
+import com.modive.userservice.cache.UserRowFollower;
+import com.modive.userservice.dto.query.UserInfoRow;
+import com.modive.userservice.dto.response.UserSearchResponse;
+import com.modive.userservice.dto.response.UserSearchResult;
+import com.modive.userservice.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+// 닉네임/이메일 부분 검색용 메모리 색인
+// - 기동 시 전체 구축, 주기적으로 재구축
+// - 변경된 userId 와 신규 가입자는 UserRowFollower 로 짧은 주기마다 반영
+@Slf4j
+@Component
+public class UserSearchIndex {
+
+    private final UserRowFollower follower;
+    private final int maxCandidates;
+    private final int maxPageSize;
+    private final Timer queryTimer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+
+    // lock 으로 보호
+    private Map<String, Entry> entries = new HashMap<>();
+    private NgramIndex nicknames = new NgramIndex();
+    private NgramIndex emails = new NgramIndex();
+
+    public UserSearchIndex(UserRepository userRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${modive.search.max-candidates:2000}") int maxCandidates,
+                           @Value("${modive.search.max-page-size:100}") int maxPageSize,
+                           @Value("${modive.search.batch-size:5000}") int batchSize,
+                           @Value("${modive.search.signup-overlap:1m}") Duration signupOverlap) {
+        this.follower = new UserRowFollower(userRepository, batchSize, signupOverlap);
+        this.maxCandidates = maxCandidates;
+        this.maxPageSize = maxPageSize;
+        this.queryTimer = Timer.builder("user.search.query")
+                .description("In-memory nickname/email search latency")
+                .register(meterRegistry);
+        Gauge.builder("user.search.index.size", this, UserSearchIndex::size)
+                .register(meterRegistry);
+    }
+
+    public UserSearchResponse search(String query, SearchField field, boolean includeInactive, int page, int size) {
+        page = Math.max(page, 0);
+        size = Math.min(Math.max(size, 1), maxPageSize);
+        String normalized = normalize(query);
+        if (normalized == null) {
+            return UserSearchResponse.builder().query(query).page(page).size(0).results(List.of()).build();
+        }
+        return queryTimer.record(() -> {
+            List<Hit> hits;
+            boolean truncated;
+            lock.readLock().lock();
+            try {
+                Map<String, Hit> best = new HashMap<>();
+                truncated = false;
+                if (field.includesNickname()) {
+                    truncated |= collect(nicknames, normalized, Entry::nickname, includeInactive, best);
+                }
+                if (field.includesEmail()) {
+                    truncated |= collect(emails, normalized, Entry::email, includeInactive, best);
+                }
+                hits = new ArrayList<>(best.values());
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            hits.sort(Comparator.comparing(Hit::matchType)
+                    .thenComparingInt(hit -> hit.matchedValue().length())
+                    .thenComparing(Hit::matchedValue));
+            int from = Math.min(page * size, hits.size());
+            int to = Math.min(from + size, hits.size());
+            List<UserSearchResult> results = hits.subList(from, to).stream()
+                    .map(hit -> new UserSearchResult(hit.entry().userId(), hit.entry().rawNickname(),
+                            hit.entry().rawEmail(), hit.entry().active(), hit.matchType()))
+                    .toList();
+            return UserSearchResponse.builder()
+                    .query(query)
+                    .page(page)
+                    .size(results.size())
+                    .hasNext(to < hits.size())
+                    .truncated(truncated)
+                    .results(results)
+                    .build();
+        });
+    }
+
+    // 캐시 무효화 이벤트와 같은 시점에 호출, 실제 반영은 refresh 주기에 일괄 처리
+    public void markDirty(String userId) {
+        follower.markDirty(userId);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${modive.search.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${modive.search.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        maintenanceLock.lock();
+        try {
+            long started = System.nanoTime();
+            Map<String, Entry> newEntries = new HashMap<>();
+            NgramIndex newNicknames = new NgramIndex();
+            NgramIndex newEmails = new NgramIndex();
+
+            follower.scanAll(slice -> {
+                for (UserInfoRow row : slice) {
+                    Entry entry = Entry.of(row);
+                    newEntries.put(entry.userId(), entry);
+                    newNicknames.add(entry.userId(), entry.nickname());
+                    newEmails.add(entry.userId(), entry.email());
+                }
+            });
+
+            lock.writeLock().lock();
+            try {
+                entries = newEntries;
+                nicknames = newNicknames;
+                emails = newEmails;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("사용자 검색 색인 구축: {}명, nickname gram {}, email gram {}, {}ms",
+                    newEntries.size(), newNicknames.gramCount(), newEmails.gramCount(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("사용자 검색 색인 구축 실패", e);
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${modive.search.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (!maintenanceLock.tryLock()) {
+            return;
+        }
+        try {
+            follower.followNewSignups(rows -> apply(rows, Set.of()));
+            follower.drainDirty(this::apply);
+        } catch (Exception e) {
+            log.warn("사용자 검색 색인 갱신 실패", e);
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    // rows 로 색인을 갱신하고, expected 중 rows 에 없는 id 는 색인에서 제거
+    private void apply(List<UserInfoRow> rows, Set<String> expected) {
+        if (rows.isEmpty() && expected.isEmpty()) {
+            return;
+        }
+        Set<String> seen = new HashSet<>();
+        lock.writeLock().lock();
+        try {
+            for (UserInfoRow row : rows) {
+                Entry entry = Entry.of(row);
+                seen.add(entry.userId());
+                remove(entries.get(entry.userId()));
+                entries.put(entry.userId(), entry);
+                nicknames.add(entry.userId(), entry.nickname());
+                emails.add(entry.userId(), entry.email());
+            }
+            for (String userId : expected) {
+                if (!seen.contains(userId)) {
+                    remove(entries.remove(userId));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Entry previous) {
+        if (previous == null) {
+            return;
+        }
+        nicknames.remove(previous.userId(), previous.nickname());
+        emails.remove(previous.userId(), previous.email());
+    }
+
+    // 후보 상한에 걸렸으면 true
+    private boolean collect(NgramIndex index, String query, Function<Entry, String> valueOf,
+                            boolean includeInactive, Map<String, Hit> best) {
+        Set<String> candidates = new HashSet<>(index.prefixCandidates(query, maxCandidates));
+        boolean truncated = candidates.size() >= maxCandidates;
+        if (!truncated) {
+            Set<String> substrings = index.substringCandidates(query, maxCandidates - candidates.size());
+            candidates.addAll(substrings);
+            truncated = candidates.size() >= maxCandidates;
+        }
+
+        for (String userId : candidates) {
+            Entry entry = entries.get(userId);
+            if (entry == null || (!includeInactive && !entry.active())) {
+                continue;
+            }
+            String value = valueOf.apply(entry);
+            MatchType matchType = MatchType.of(value, query);
+            if (matchType == null) {
+                continue;
+            }
+            Hit hit = new Hit(entry, matchType, value);
+            best.merge(userId, hit, (a, b) -> a.matchType().compareTo(b.matchType()) <= 0 ? a : b);
+        }
+        return truncated;
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String userId, String rawNickname, String rawEmail,
+                         String nickname, String email, boolean active) {
+
+        static Entry of(UserInfoRow row) {
+            return new Entry(row.getUserId(), row.getNickname(), row.getEmail(),
+                    normalize(row.getNickname()), normalize(row.getEmail()),
+                    row.getActive() == null || row.getActive());
+        }
+    }
+
+    private record Hit(Entry entry, MatchType matchType, String matchedValue) {
+    }
+}
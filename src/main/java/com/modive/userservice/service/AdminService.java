@@ -1,33 +1,74 @@
 package com.modive.userservice.service;
 
+import com.modive.userservice.cache.SingleFlight;
+import com.modive.userservice.cache.UserCountCache;
+import com.modive.userservice.cache.UserInfoCache;
+import com.modive.userservice.domain.MonthlyUserStats;
 import com.modive.userservice.domain.User;
 import com.modive.userservice.domain.UserInfo;
-import com.modive.userservice.dto.query.MonthlyActiveStatsDto;
-import com.modive.userservice.dto.query.MonthlyStatsDto;
 import com.modive.userservice.dto.query.TotalCarDto;
+import com.modive.userservice.dto.query.UserCursor;
+import com.modive.userservice.dto.query.UserInfoRow;
 import com.modive.userservice.dto.response.*;
 import com.modive.userservice.exception.UserNotFoundException;
-import com.modive.userservice.repository.CarRepository;
+import com.modive.userservice.repository.MonthlyUserStatsRepository;
 import com.modive.userservice.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class AdminService {
 
-    private final UserRepository userRepository;
-    private final CarRepository carRepository;
+    private static final String TOTAL_CAR_KEY = "total-cars";
 
+    private final UserRepository userRepository;
+    private final MonthlyUserStatsRepository monthlyUserStatsRepository;
+    private final StatsSnapshotService statsSnapshotService;
+    private final UserInfoCache userInfoCache;
+    private final UserCountCache userCountCache;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final SingleFlight<String, UserInfo> emailFlight;
+    private final SingleFlight<String, TotalCarChangeResponse> totalCarFlight;
+
+    @Value("${modive.user.list.default-page-size:100}")
+    private int defaultPageSize;
+
+    @Value("${modive.user.list.max-page-size:1000}")
+    private int maxPageSize;
+
+    public AdminService(UserRepository userRepository,
+                        MonthlyUserStatsRepository monthlyUserStatsRepository,
+                        StatsSnapshotService statsSnapshotService,
+                        UserInfoCache userInfoCache,
+                        UserCountCache userCountCache,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${modive.single-flight.max-waiters:256}") int maxWaiters) {
+        this.userRepository = userRepository;
+        this.monthlyUserStatsRepository = monthlyUserStatsRepository;
+        this.statsSnapshotService = statsSnapshotService;
+        this.userInfoCache = userInfoCache;
+        this.userCountCache = userCountCache;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.readOnlyTransactionTemplate.setName("AdminService.lookup");
+        this.emailFlight = new SingleFlight<>("user.by-email", maxWaiters, meterRegistry);
+        this.totalCarFlight = new SingleFlight<>("admin.total-cars", maxWaiters, meterRegistry);
+    }
 
 //    public UserInfo searchByEmail(String email) {
 //        User user = userRepository.findByEmail(email);
@@ -35,89 +76,73 @@ public class AdminService {
 //    }
 
     public SearchUserResponse searchByEmail(String email) {
-        User user = userRepository.findByEmail(email);
-        if (user == null) {
+        UserInfo userInfo = userInfoCache.getByEmail(email, key -> emailFlight.execute(key,
+                () -> readOnlyTransactionTemplate.execute(status -> userRepository.findInfoByEmail(key)
+                        .map(UserInfo::from)
+                        .orElse(null))));
+        if (userInfo == null) {
             throw new UserNotFoundException();
         }
-        UserInfo userInfo = UserInfo.from(user);
         List<UserInfo> resultList = Collections.singletonList(userInfo);
         return new SearchUserResponse(resultList);
     }
 
 
+    @Transactional(readOnly = true)
     public UserListResponse getUserList() {
-        List<User> allUsers = userRepository.findAll();
+        List<UserInfoRow> allUsers = userRepository.findAllInfoRows();
         List<UserInfo> formattedUsers = allUsers.stream()
                 .map(UserInfo::from)
                 .toList();
         return UserListResponse.of(formattedUsers);
     }
 
-    public TotalUserChangeResponse getTotalUser() {
-        Long newUserCount = userRepository.getNewUserCount();
-
-        List<YearMonth> last12Months = generateLast12Months();
-
-        List<MonthlyStatsDto> userStats = convertToStats(userRepository.getMonthlyUserStats());
-        List<MonthlyStatsDto> churnStats = convertToStats(userRepository.getMonthlyChurnStats());
-
-        AtomicLong totalUser = new AtomicLong(0L);
-        Map<String, MonthlyActiveStatsDto> userStatsMap = userStats.stream()
-                .sorted(Comparator.comparing(MonthlyStatsDto::getMonthYear))
-                .collect(Collectors.toMap(
-                        MonthlyStatsDto::getMonthYear,
-                        dto -> {
-                            long cumulative = totalUser.addAndGet(dto.getCount());
-                            return new MonthlyActiveStatsDto(dto.getMonthYear(), dto.getCount(), cumulative);
-                        },
-                        (existing, replacement) -> replacement,
-                        LinkedHashMap::new
-                ));
-
-        Map<String, Long> churnMap = churnStats.stream()
-                .collect(Collectors.toMap(
-                        MonthlyStatsDto::getMonthYear,
-                        MonthlyStatsDto::getCount
-                ));
-
-        AtomicLong finalUser = new AtomicLong(0L);
-        AtomicLong totalChurn = new AtomicLong(0L);
-        AtomicLong priorUsers = new AtomicLong(0L);
-        AtomicLong prior2Users = new AtomicLong(0L);
-
-        List<UserTrend> userTrendList = last12Months.stream()
-                .map(yearMonth -> {
-                    String monthKey = yearMonth.toString();
-                    prior2Users.set(priorUsers.get());
-                    priorUsers.set(finalUser.get());
-                    MonthlyActiveStatsDto userStat = userStatsMap.get(monthKey);
-                    Long churnCount = churnMap.getOrDefault(monthKey, 0L);
-                    long cumulative = totalChurn.addAndGet(churnCount);
-                    if (userStat != null) {
-                        finalUser.set(userStat.getActiveUsers() - cumulative);
-                    } else {
-                        finalUser.getAndAdd(cumulative * -1);
-                    }
-
-                    return new UserTrend(
-                            (long) yearMonth.getYear(),
-                            (long) yearMonth.getMonthValue(),
-                            userStat != null ? userStat.getCount() : 0L,
-                            userStat != null ? finalUser.get() : 0L,
-                            churnCount
-                    );
-                })
+    @Transactional(readOnly = true)
+    public UserListResponse getUserList(String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<UserInfoRow> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = userRepository.findFirstSlice(limit);
+        } else {
+            UserCursor after = UserCursor.decode(cursor);
+            slice = userRepository.findSliceAfter(after.getCreateDateTime(), after.getUserId(), limit);
+        }
+
+        boolean hasNext = slice.size() > pageSize;
+        List<UserInfoRow> page = hasNext ? slice.subList(0, pageSize) : slice;
+        List<UserInfo> formattedUsers = page.stream()
+                .map(UserInfo::from)
                 .toList();
 
-        TotalChangeResponse totalChangeResponse =  TotalChangeResponse.of(
-                finalUser.get(),
-                prior2Users.get() == 0 ? 1f : (float) priorUsers.get() / prior2Users.get() - 1f
-                );
-        return TotalUserChangeResponse.of(totalChangeResponse);
+        String nextCursor = null;
+        if (hasNext) {
+            UserInfoRow last = page.get(page.size() - 1);
+            nextCursor = new UserCursor(last.getCreateDateTime(), last.getUserId()).encode();
+        }
+        return UserListResponse.of(formattedUsers, nextCursor);
+    }
+
+    public TotalUserChangeResponse getTotalUser() {
+        return statsSnapshotService.getSnapshot().getTotalUserChange();
     }
 
+    // 대시보드가 열릴 때 동시에 몰리는 호출은 한 번만 집계
     public TotalCarChangeResponse getTotalCar() {
-        TotalCarDto totalCarDto = convertToStats(carRepository.countCars().get(0));
+        return totalCarFlight.execute(TOTAL_CAR_KEY, this::computeTotalCar);
+    }
+
+    private TotalCarChangeResponse computeTotalCar() {
+        YearMonth current = YearMonth.now();
+        long present = monthlyUserStatsRepository.findById(current.toString())
+                .map(MonthlyUserStats::getCarCount)
+                .orElse(0L);
+        long prior = monthlyUserStatsRepository.findById(current.minusMonths(1).toString())
+                .map(MonthlyUserStats::getCarCount)
+                .orElse(0L);
+        TotalCarDto totalCarDto = new TotalCarDto(monthlyUserStatsRepository.sumCarCount(), present, prior);
         long priorCount = totalCarDto.getTotal() - totalCarDto.getPresent();
         long prior2Count = totalCarDto.getTotal() - totalCarDto.getPresent() - totalCarDto.getPrior();
 
@@ -130,105 +155,81 @@ public class AdminService {
     }
 
     public MonthlyStatsResponse getMonthlyStats() {
-        Long newUserCount = userRepository.getNewUserCount();
-
-        List<YearMonth> last12Months = generateLast12Months();
-
-        List<MonthlyStatsDto> userStats = convertToStats(userRepository.getMonthlyUserStats());
-        List<MonthlyStatsDto> churnStats = convertToStats(userRepository.getMonthlyChurnStats());
-
-        AtomicLong totalUser = new AtomicLong(0L);
-        Map<String, MonthlyActiveStatsDto> userStatsMap = userStats.stream()
-                .sorted(Comparator.comparing(MonthlyStatsDto::getMonthYear))
-                .collect(Collectors.toMap(
-                        MonthlyStatsDto::getMonthYear,
-                        dto -> {
-                            long cumulative = totalUser.addAndGet(dto.getCount());
-                            return new MonthlyActiveStatsDto(dto.getMonthYear(), dto.getCount(), cumulative);
-                        },
-                        (existing, replacement) -> replacement,
-                        LinkedHashMap::new
-                ));
-
-        Map<String, Long> churnMap = churnStats.stream()
-                .collect(Collectors.toMap(
-                        MonthlyStatsDto::getMonthYear,
-                        MonthlyStatsDto::getCount
-                ));
-
-        AtomicLong finalUser = new AtomicLong(0L);
-        AtomicLong totalChurn = new AtomicLong(0L);
-        AtomicLong priorUsers = new AtomicLong(0L);
-
-        List<UserTrend> userTrendList = last12Months.stream()
-                .map(yearMonth -> {
-                    String monthKey = yearMonth.toString();
-                    priorUsers.set(finalUser.get());
-                    MonthlyActiveStatsDto userStat = userStatsMap.get(monthKey);
-                    Long churnCount = churnMap.getOrDefault(monthKey, 0L);
-                    long cumulative = totalChurn.addAndGet(churnCount);
-                    if (userStat != null) {
-                        finalUser.set(userStat.getActiveUsers() - cumulative);
-                    } else {
-                        finalUser.getAndAdd(cumulative * -1);
-                    }
-
-                    return new UserTrend(
-                            (long) yearMonth.getYear(),
-                            (long) yearMonth.getMonthValue(),
-                            userStat != null ? userStat.getCount() : 0L,
-                            userStat != null ? finalUser.get() : 0L,
-                            churnCount
-                    );
-                })
-                .toList();
-
-        UserTrend[] userTrends = userTrendList.toArray(new UserTrend[0]);
+        return statsSnapshotService.getSnapshot().getMonthlyStats();
+    }
 
+    @Transactional(readOnly = true)
+    public Page<UserInfo> findUsers(
+            Integer minExperience,
+            Integer maxExperience,
+            Integer accountAgeInMonths,
+            Integer active,
+            Pageable pageable
+    ) {
+        Specification<User> spec = buildFilterSpec(minExperience, maxExperience, accountAgeInMonths, active);
 
-        return MonthlyStatsResponse.of(
-                newUserCount,
-                priorUsers.get() == 0 ? 1f : (float) finalUser.get() / priorUsers.get() - 1f,
-                (float) totalChurn.get() / totalUser.get(),
-                userTrends
-        );
+        return userRepository.findInfoRows(spec, pageable)
+                .map(UserInfo::from);
     }
 
-    private List<MonthlyStatsDto> convertToStats(List<Object[]> rawData) {
-        return rawData.stream()
-                .map(row -> new MonthlyStatsDto(
-                        (String) row[0],           // monthYear
-                        (Number) row[1]            // churnCount
-                ))
-                .collect(Collectors.toList());
-    }
+    // keyset 방식, OFFSET 과 COUNT 없이 (createDateTime, userId) 다음 구간만 조회
+    @Transactional(readOnly = true)
+    public UserSliceResponse scrollUsers(
+            Integer minExperience,
+            Integer maxExperience,
+            Integer accountAgeInMonths,
+            Integer active,
+            String cursor,
+            Integer size,
+            boolean includeTotal
+    ) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        Specification<User> filter = buildFilterSpec(minExperience, maxExperience, accountAgeInMonths, active);
+
+        Specification<User> spec = filter;
+        if (cursor != null && !cursor.isBlank()) {
+            UserCursor after = UserCursor.decode(cursor);
+            spec = spec.and((root, query, cb) -> cb.or(
+                    cb.greaterThan(root.get("createDateTime"), after.getCreateDateTime()),
+                    cb.and(
+                            cb.equal(root.get("createDateTime"), after.getCreateDateTime()),
+                            cb.greaterThan(root.get("userId"), after.getUserId())
+                    )
+            ));
+        }
 
-    private TotalCarDto convertToStats(Object[] rawData) {
-        return new TotalCarDto(
-            (Number) rawData[0],
-            (Number) rawData[1],
-            (Number) rawData[2]
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<UserInfoRow> slice = userRepository.findInfoRows(
+                spec,
+                Sort.by(Sort.Direction.ASC, "createDateTime", "userId"),
+                pageSize + 1
         );
-    }
 
-    private List<YearMonth> generateLast12Months() {
-        List<YearMonth> months = new ArrayList<>();
-        YearMonth current = YearMonth.now();
+        boolean hasNext = slice.size() > pageSize;
+        List<UserInfoRow> page = hasNext ? slice.subList(0, pageSize) : slice;
+        List<UserInfo> content = page.stream()
+                .map(UserInfo::from)
+                .toList();
 
-        // 현재 월부터 11개월 전까지
-        for (int i = 11; i >= 0; i--) {
-            months.add(current.minusMonths(i));
+        String nextCursor = null;
+        if (hasNext) {
+            UserInfoRow last = page.get(page.size() - 1);
+            nextCursor = new UserCursor(last.getCreateDateTime(), last.getUserId()).encode();
         }
 
-        return months;
+        Long approximateTotal = null;
+        if (includeTotal) {
+            String filterKey = minExperience + "|" + maxExperience + "|" + accountAgeInMonths + "|" + active;
+            approximateTotal = userCountCache.get(filterKey, () -> userRepository.count(filter));
+        }
+        return UserSliceResponse.of(content, nextCursor, approximateTotal);
     }
 
-    public Page<UserInfo> findUsers(
+    private Specification<User> buildFilterSpec(
             Integer minExperience,
             Integer maxExperience,
             Integer accountAgeInMonths,
-            Integer active,
-            Pageable pageable
+            Integer active
     ) {
         // 동적 쿼리 생성을 위한 Specification 사용
         Specification<User> spec = Specification.where(null);
@@ -251,10 +252,9 @@ public class AdminService {
 
         if (active != null) {
             spec = spec.and((root, query, cb) ->
-                    cb.equal(root.get("isActive"), active));
+                    cb.equal(root.get("isActive"), active == 1));
         }
 
-        return userRepository.findAll(spec, pageable)
-                .map(UserInfo::from);
+        return spec;
     }
 }
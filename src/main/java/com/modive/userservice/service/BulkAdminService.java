@@ -0,0 +1,188 @@
+package com.modive.userservice.service;
+
+import com.modive.userservice.cache.UserCacheInvalidator;
+import com.modive.userservice.dto.query.RewardDelta;
+import com.modive.userservice.dto.query.UserChange;
+import com.modive.userservice.dto.request.BulkRewardRequest;
+import com.modive.userservice.dto.response.BulkItemResult;
+import com.modive.userservice.dto.response.BulkItemStatus;
+import com.modive.userservice.dto.response.BulkOperationResponse;
+import com.modive.userservice.exception.BulkRequestTooLargeException;
+import com.modive.userservice.exception.MissingBulkItemsException;
+import com.modive.userservice.metrics.TransactionMetricsListener;
+import com.modive.userservice.repository.RewardBatchRepository;
+import com.modive.userservice.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// 대량 비활성화 / 리워드 지급, chunk 단위 트랜잭션으로 처리하고 항목별 결과 반환
+@Slf4j
+@Service
+public class BulkAdminService {
+
+    private final UserRepository userRepository;
+    private final RewardBatchRepository rewardBatchRepository;
+    private final StatsRollupService statsRollupService;
+    private final UserChangeService userChangeService;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+    private final int maxItems;
+
+    public BulkAdminService(UserRepository userRepository,
+                            RewardBatchRepository rewardBatchRepository,
+                            StatsRollupService statsRollupService,
+                            UserChangeService userChangeService,
+                            UserCacheInvalidator userCacheInvalidator,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${modive.bulk.chunk-size:500}") int chunkSize,
+                            @Value("${modive.bulk.max-items:10000}") int maxItems) {
+        this.userRepository = userRepository;
+        this.rewardBatchRepository = rewardBatchRepository;
+        this.statsRollupService = statsRollupService;
+        this.userChangeService = userChangeService;
+        this.userCacheInvalidator = userCacheInvalidator;
+        this.transactionTemplate = TransactionMetricsListener.named(transactionTemplate, "BulkAdminService.chunk");
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    public BulkOperationResponse deactivateUsers(List<String> userIds) {
+        checkItems("userIds", userIds);
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(userIds));
+
+        List<BulkItemResult> results = new ArrayList<>(distinctIds.size());
+        for (List<String> chunk : chunks(distinctIds)) {
+            try {
+                results.addAll(transactionTemplate.execute(status -> deactivateChunk(chunk)));
+            } catch (RuntimeException e) {
+                log.warn("대량 비활성화 chunk 실패: {}건", chunk.size(), e);
+                chunk.forEach(userId -> results.add(new BulkItemResult(userId, BulkItemStatus.FAILED)));
+            }
+        }
+        return BulkOperationResponse.of(results);
+    }
+
+    public BulkOperationResponse grantRewards(List<BulkRewardRequest.Item> items) {
+        checkItems("items", items);
+        items.forEach(item -> RewardService.checkIdempotencyKey(item.getIdempotencyKey()));
+
+        List<BulkItemResult> results = new ArrayList<>(items.size());
+        for (List<BulkRewardRequest.Item> chunk : chunks(items)) {
+            try {
+                results.addAll(transactionTemplate.execute(status -> grantChunk(chunk)));
+            } catch (RuntimeException e) {
+                log.warn("대량 리워드 지급 chunk 실패: {}건", chunk.size(), e);
+                chunk.forEach(item -> results.add(new BulkItemResult(item.getUserId(), BulkItemStatus.FAILED)));
+            }
+        }
+        return BulkOperationResponse.of(results);
+    }
+
+    private List<BulkItemResult> deactivateChunk(List<String> userIds) {
+        // 잠근 활성 사용자만 비활성화하므로 이벤트/결과가 실제 갱신 건수와 일치
+        Set<String> activeIds = new HashSet<>(userRepository.lockActiveUserIds(userIds));
+        Set<String> existing = new HashSet<>(activeIds);
+        if (activeIds.size() < userIds.size()) {
+            existing.addAll(userRepository.findExistingUserIds(userIds));
+        }
+
+        if (!activeIds.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            int deactivated = userRepository.deactivateAll(activeIds, now);
+            statsRollupService.recordChurn(now, deactivated);
+            List<String> ordered = userIds.stream().filter(activeIds::contains).toList();
+            userChangeService.recordAll(ordered.stream().map(UserChange::deactivated).toList());
+            ordered.forEach(userCacheInvalidator::invalidate);
+        }
+
+        return userIds.stream()
+                .map(userId -> {
+                    if (activeIds.contains(userId)) {
+                        return new BulkItemResult(userId, BulkItemStatus.DEACTIVATED);
+                    }
+                    return new BulkItemResult(userId,
+                            existing.contains(userId) ? BulkItemStatus.ALREADY_INACTIVE : BulkItemStatus.NOT_FOUND);
+                })
+                .toList();
+    }
+
+    private List<BulkItemResult> grantChunk(List<BulkRewardRequest.Item> items) {
+        Set<String> existing = new HashSet<>(userRepository.findExistingUserIds(
+                items.stream().map(BulkRewardRequest.Item::getUserId).distinct().toList()));
+
+        List<RewardDelta> candidates = items.stream()
+                .filter(item -> existing.contains(item.getUserId()) && item.getReward() != null)
+                .map(item -> new RewardDelta(item.getUserId(), item.getIdempotencyKey(), item.getReward()))
+                .toList();
+
+        // 원장에 새로 들어간 항목만 사용자별로 합쳐서 한 번에 증가
+        int[] inserted = rewardBatchRepository.appendLedger(candidates);
+        Set<RewardDelta> applied = new HashSet<>();
+        Map<String, Long> totals = new HashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (inserted[i] == 1) {
+                applied.add(candidates.get(i));
+                totals.merge(candidates.get(i).getUserId(), candidates.get(i).getDelta(), Long::sum);
+            }
+        }
+        rewardBatchRepository.incrementRewards(totals.entrySet().stream()
+                .map(entry -> new RewardDelta(entry.getKey(), null, entry.getValue()))
+                .toList());
+        userChangeService.recordAll(totals.entrySet().stream()
+                .map(entry -> UserChange.rewardChanged(entry.getKey(), entry.getValue()))
+                .toList());
+        totals.keySet().forEach(userCacheInvalidator::invalidate);
+
+        List<BulkItemResult> results = new ArrayList<>(items.size());
+        int candidateIndex = 0;
+        for (BulkRewardRequest.Item item : items) {
+            if (item.getReward() == null) {
+                results.add(new BulkItemResult(item.getUserId(), BulkItemStatus.FAILED));
+                continue;
+            }
+            if (!existing.contains(item.getUserId())) {
+                results.add(new BulkItemResult(item.getUserId(), BulkItemStatus.NOT_FOUND));
+                continue;
+            }
+            RewardDelta candidate = candidates.get(candidateIndex++);
+            results.add(new BulkItemResult(item.getUserId(),
+                    applied.contains(candidate) ? BulkItemStatus.APPLIED : BulkItemStatus.DUPLICATE));
+        }
+        return results;
+    }
+
+    // 본문에 목록이 없거나 null 항목이 있으면 400
+    private void checkItems(String field, List<?> items) {
+        if (items == null) {
+            throw new MissingBulkItemsException(field);
+        }
+        if (items.size() > maxItems) {
+            throw new BulkRequestTooLargeException(maxItems);
+        }
+        if (items.stream().anyMatch(Objects::isNull)) {
+            throw new MissingBulkItemsException(field);
+        }
+    }
+
+    private <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            chunks.add(items.subList(from, Math.min(from + chunkSize, items.size())));
+        }
+        return chunks;
+    }
+}
@@ -3,11 +3,11 @@ package com.modive.userservice.service;
 import com.modive.userservice.domain.Car;
 import com.modive.userservice.domain.User;
 import com.modive.userservice.domain.CarInfo;
+import com.modive.userservice.dto.query.UserChange;
 
 import com.modive.userservice.dto.response.CarListResponse;
 import com.modive.userservice.repository.CarRepository;
 import com.modive.userservice.repository.UserRepository;
-import com.modive.userservice.util.UserUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,13 +19,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CarService {
 
-    private final UserUtil userContextUtil;
-
     private final CarRepository carRepository;
     private final UserRepository userRepository;
+    private final StatsRollupService statsRollupService;
+    private final UserChangeService userChangeService;
 
-    public CarListResponse getCarList() {
-        String userId = userContextUtil.getUserId();
+    public CarListResponse getCarList(String userId) {
         List<Car> usersCars = carRepository.findByUserUserId(userId);
         List<CarInfo> usersCarNumbers = usersCars.stream()
                 .filter(car -> car.getNumber() != null)
@@ -34,8 +33,8 @@ public class CarService {
         return CarListResponse.of(usersCarNumbers);
     }
 
-    public void addCar(String number) {
-        String userId = userContextUtil.getUserId();
+    @Transactional
+    public void addCar(String userId, String number) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
 
@@ -44,19 +43,23 @@ public class CarService {
         car.setNumber(number);
         car.setActive(false);
         carRepository.save(car);
+        statsRollupService.recordCarAdded(car.getCreateDateTime());
+        userChangeService.record(UserChange.carAdded(userId, car.getCarId(), number));
     }
 
-    public void deleteCar(String carId) {
-        String userId = userContextUtil.getUserId();
+    @Transactional
+    public void deleteCar(String userId, String carId) {
         Car car = carRepository.findByCarIdAndUserUserId(carId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("차량을 찾을 수 없습니다."));
         carRepository.delete(car);
+        statsRollupService.recordCarDeleted(car.getCreateDateTime());
+        userChangeService.record(UserChange.carDeleted(userId, carId));
     }
 
     @Transactional
-    public void updateCar(String carId) {
-        String userId = userContextUtil.getUserId();
+    public void updateCar(String userId, String carId) {
         carRepository.deactivateAllUserCars(userId);
         carRepository.activateUserCar(carId, userId);
+        userChangeService.record(UserChange.carActivated(userId, carId));
     }
 }
@@ -0,0 +1,26 @@
+package com.modive.userservice.service;
+
+import com.modive.userservice.repository.ArchivedUserRepository;
+import com.modive.userservice.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// deactivated_at 컬럼 도입 전 비활성화된 사용자 채우기, 한 batch 가 한 트랜잭션
+@Service
+@RequiredArgsConstructor
+public class DeactivationBackfillService {
+
+    private final UserRepository userRepository;
+    private final ArchivedUserRepository archivedUserRepository;
+
+    @Transactional
+    public int backfillUsers(int batchSize) {
+        return userRepository.backfillDeactivatedAt(batchSize);
+    }
+
+    @Transactional
+    public int backfillArchivedUsers(int batchSize) {
+        return archivedUserRepository.backfillDeactivatedAt(batchSize);
+    }
+}
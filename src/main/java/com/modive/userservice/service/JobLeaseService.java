@@ -0,0 +1,29 @@
+package com.modive.userservice.service;
+
+import com.modive.userservice.repository.JobLeaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+// job_lease 행으로 주기 작업을 한 인스턴스에서만 실행, 보유 중인 인스턴스는 실행할 때마다 연장
+@Service
+public class JobLeaseService {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final String instanceId;
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository,
+                           @Value("${HOSTNAME:local}") String instanceId) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.instanceId = instanceId;
+    }
+
+    // 임대를 얻었거나 연장했으면 true
+    @Transactional
+    public boolean tryAcquire(String name, Duration ttl) {
+        jobLeaseRepository.upsertIfFree(name, instanceId, Math.max(ttl.toSeconds(), 1));
+        return jobLeaseRepository.findOwner(name).map(instanceId::equals).orElse(false);
+    }
+}
@@ -0,0 +1,42 @@
+package com.modive.userservice.service;
+
+import com.modive.userservice.cache.UserCacheInvalidator;
+import com.modive.userservice.domain.RewardLedger;
+import com.modive.userservice.dto.query.UserChange;
+import com.modive.userservice.exception.InvalidIdempotencyKeyException;
+import com.modive.userservice.exception.UserNotFoundException;
+import com.modive.userservice.repository.RewardLedgerRepository;
+import com.modive.userservice.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class RewardService {
+
+    private final UserRepository userRepository;
+    private final RewardLedgerRepository rewardLedgerRepository;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final UserChangeService userChangeService;
+
+    // 원장 컬럼보다 긴 키는 잘려서 다른 키와 충돌하므로 거절
+    public static void checkIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey != null && idempotencyKey.length() > RewardLedger.IDEMPOTENCY_KEY_MAX_LENGTH) {
+            throw new InvalidIdempotencyKeyException(RewardLedger.IDEMPOTENCY_KEY_MAX_LENGTH);
+        }
+    }
+
+    @Transactional
+    public void applyReward(String userId, long reward, String idempotencyKey) {
+        // 재시도로 들어온 같은 멱등 키는 무시
+        if (rewardLedgerRepository.append(userId, idempotencyKey, reward) == 0) {
+            return;
+        }
+        if (userRepository.incrementReward(userId, reward) == 0) {
+            throw new UserNotFoundException();
+        }
+        userChangeService.record(UserChange.rewardChanged(userId, reward));
+        userCacheInvalidator.invalidate(userId);
+    }
+}
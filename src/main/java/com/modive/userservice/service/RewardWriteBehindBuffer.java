@@ -0,0 +1,393 @@
+package com.modive.userservice.service;
+
+import com.modive.userservice.cache.UserCacheInvalidator;
+import com.modive.userservice.dto.query.RewardDelta;
+import com.modive.userservice.dto.query.UserChange;
+import com.modive.userservice.metrics.TransactionMetricsListener;
+import com.modive.userservice.repository.RewardBatchRepository;
+import com.modive.userservice.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 리워드 증감을 메모리에 모아 users.reward 에 주기적으로 JDBC 배치로 반영 (opt-in)
+@Slf4j
+@Component
+public class RewardWriteBehindBuffer {
+
+    private static final String SPILL_SUFFIX = ".spill";
+    private static final String CLAIM_MARKER = ".recovering-";
+
+    private final RewardBatchRepository rewardBatchRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final UserChangeService userChangeService;
+
+    private final boolean enabled;
+    private final Path spillDir;
+    private final String instanceId;
+    private final Duration claimTimeout;
+
+    private final AtomicReference<Generation> current = new AtomicReference<>(new Generation());
+    // 주기 flush 와 종료 flush 가 겹치면 실패한 주기 flush 의 requeue 가 spill 이후에 들어가 유실되므로 직렬화
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile boolean closed;
+
+    private final Counter receivedCounter;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+
+    public RewardWriteBehindBuffer(RewardBatchRepository rewardBatchRepository,
+                                   UserRepository userRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   UserCacheInvalidator userCacheInvalidator,
+                                   UserChangeService userChangeService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${modive.reward.write-behind.enabled:false}") boolean enabled,
+                                   @Value("${modive.reward.write-behind.spill-dir:}") String spillDir,
+                                   @Value("${modive.reward.write-behind.claim-timeout:10m}") Duration claimTimeout,
+                                   @Value("${HOSTNAME:local}") String instanceId) {
+        // 컨테이너 작업 디렉터리는 재시작 시 사라지므로 마운트된 볼륨 경로를 반드시 지정
+        if (enabled && spillDir.isBlank()) {
+            throw new IllegalStateException("modive.reward.write-behind.spill-dir is required when write-behind is enabled");
+        }
+        this.rewardBatchRepository = rewardBatchRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = TransactionMetricsListener.named(transactionTemplate, "RewardWriteBehindBuffer.flush");
+        this.userCacheInvalidator = userCacheInvalidator;
+        this.userChangeService = userChangeService;
+        this.enabled = enabled;
+        this.spillDir = spillDir.isBlank() ? null : Path.of(spillDir);
+        this.instanceId = instanceId;
+        this.claimTimeout = claimTimeout;
+
+        this.receivedCounter = Counter.builder("reward.write-behind.deltas.received")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("reward.write-behind.rows.written")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("reward.write-behind.deltas.dropped")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("reward.write-behind.flush")
+                .register(meterRegistry);
+        Gauge.builder("reward.write-behind.buffer.depth", this, RewardWriteBehindBuffer::depth)
+                .register(meterRegistry);
+        Gauge.builder("reward.write-behind.coalescing.ratio", this, RewardWriteBehindBuffer::coalescingRatio)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void add(String userId, long delta, String idempotencyKey) {
+        receivedCounter.increment();
+        enqueue(userId, delta, idempotencyKey);
+    }
+
+    @Scheduled(fixedDelayString = "${modive.reward.write-behind.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        if (!enabled || closed) {
+            return;
+        }
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("리워드 write-behind flush 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 이전 종료 시 남긴 spill 파일이 있으면 DB 에 반영한 뒤 삭제
+    // pod 이름이 바뀌어도 찾을 수 있도록 디렉터리의 모든 spill 파일을 rename 으로 선점한 뒤 읽음
+    // 선점한 채로 죽은 파일(자기 이름이거나 claim-timeout 이 지난 것)도 다시 선점
+    @PostConstruct
+    public void recover() {
+        if (!enabled || !Files.isDirectory(spillDir)) {
+            return;
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(spillDir)) {
+            entries.forEach(files::add);
+        } catch (IOException e) {
+            log.error("리워드 write-behind spill 디렉터리 조회 실패: {}", spillDir, e);
+            return;
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(SPILL_SUFFIX)) {
+                recover(file, file);
+            } else if (name.contains(SPILL_SUFFIX + CLAIM_MARKER) && isStaleClaim(file)) {
+                recover(file, spillDir.resolve(name.substring(0, name.indexOf(CLAIM_MARKER))));
+            }
+        }
+    }
+
+    // 종료 시 마지막 flush, 실패하면 파일로 남겨 다음 기동 때 복구
+    // 진행 중인 주기 flush 가 끝날 때까지 기다린 뒤 실행하고, 이후 주기 flush 는 실행하지 않음
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            closed = true;
+            try {
+                flushLocked();
+            } catch (Exception e) {
+                log.error("리워드 write-behind 종료 flush 실패, spill 파일에 기록: {}", spillDir, e);
+                spill(swap());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushLocked() {
+        Generation generation = swap();
+        if (generation.isEmpty()) {
+            return;
+        }
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> write(generation)));
+        } catch (RuntimeException e) {
+            // 실패한 세대는 현재 버퍼에 되돌려 다음 flush 에 포함
+            requeue(generation);
+            throw e;
+        }
+    }
+
+    private void recover(Path file, Path spill) {
+        Path claimed = spill.resolveSibling(spill.getFileName() + CLAIM_MARKER + instanceId);
+        try {
+            // 다른 pod 가 먼저 선점했으면 건너뜀
+            Files.move(file, claimed, StandardCopyOption.ATOMIC_MOVE);
+            Files.setLastModifiedTime(claimed, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            return;
+        }
+        try {
+            Generation generation = new Generation();
+            List<String> lines = Files.readAllLines(claimed, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                String[] fields = line.split("\t", -1);
+                generation.add(fields[0], Long.parseLong(fields[2]), fields[1].isEmpty() ? null : fields[1]);
+            }
+            // 커밋 후에 지우므로 그 사이에 죽으면 다시 적용되지만, 모든 줄에 멱등 키가 있어 원장에서 걸러짐
+            transactionTemplate.executeWithoutResult(status -> write(generation));
+            Files.delete(claimed);
+            log.info("리워드 write-behind spill 복구: {} {}건", spill.getFileName(), lines.size());
+        } catch (IOException | RuntimeException e) {
+            log.error("리워드 write-behind spill 복구 실패, 다음 기동 때 재시도: {}", spill, e);
+            try {
+                Files.move(claimed, spill, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException moveFailure) {
+                log.error("리워드 write-behind spill 선점 해제 실패, claim-timeout 이후 재선점: {}", claimed, moveFailure);
+            }
+        }
+    }
+
+    private boolean isStaleClaim(Path claimed) {
+        if (claimed.getFileName().toString().endsWith(CLAIM_MARKER + instanceId)) {
+            return true;
+        }
+        try {
+            Instant claimedAt = Files.getLastModifiedTime(claimed).toInstant();
+            return claimedAt.plus(claimTimeout).isBefore(Instant.now());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void enqueue(String userId, long delta, String idempotencyKey) {
+        while (true) {
+            Generation generation = current.get();
+            generation.inflight.increment();
+            try {
+                // flush 가 세대를 교체했으면 새 세대에 다시 기록
+                if (generation != current.get()) {
+                    continue;
+                }
+                generation.add(userId, delta, idempotencyKey);
+                return;
+            } finally {
+                generation.inflight.decrement();
+            }
+        }
+    }
+
+    private Generation swap() {
+        Generation generation = current.getAndSet(new Generation());
+        // 교체 전에 진입한 기록이 끝날 때까지 대기
+        while (generation.inflight.sum() != 0) {
+            Thread.onSpinWait();
+        }
+        return generation;
+    }
+
+    private void write(Generation generation) {
+        Map<String, Long> totals = new HashMap<>();
+
+        // 없는(삭제/보관된) 유저는 원장에도 남기지 않음, 동기 경로처럼 같은 멱등 키로 재시도할 수 있게 함
+        Set<String> userIds = new HashSet<>(generation.deltas.keySet());
+        generation.keyed.forEach(reward -> userIds.add(reward.getUserId()));
+        Set<String> existing = userIds.isEmpty() ? Set.of() : new HashSet<>(userRepository.findExistingUserIds(userIds));
+        userIds.stream()
+                .filter(userId -> !existing.contains(userId))
+                .forEach(userId -> {
+                    droppedCounter.increment();
+                    log.warn("리워드 반영 대상 유저 없음: {}", userId);
+                });
+
+        // 멱등 키가 있는 건은 원장에 들어간 것만 반영
+        List<RewardDelta> keyed = generation.keyed.stream()
+                .filter(reward -> existing.contains(reward.getUserId()))
+                .toList();
+        int[] inserted = rewardBatchRepository.appendLedger(keyed);
+        for (int i = 0; i < keyed.size(); i++) {
+            // SUCCESS_NO_INFO(-2) 는 반영 여부를 알 수 없으므로 1 만 반영된 것으로 봄
+            if (inserted[i] == 1) {
+                totals.merge(keyed.get(i).getUserId(), keyed.get(i).getDelta(), Long::sum);
+            }
+        }
+
+        // 멱등 키가 없는 건은 사용자별로 합쳐서 원장에 한 줄
+        List<RewardDelta> coalesced = new ArrayList<>();
+        generation.deltas.forEach((userId, adder) -> {
+            if (!existing.contains(userId)) {
+                return;
+            }
+            long delta = adder.sum();
+            coalesced.add(new RewardDelta(userId, null, delta));
+            totals.merge(userId, delta, Long::sum);
+        });
+        rewardBatchRepository.appendLedger(coalesced);
+
+        List<RewardDelta> increments = totals.entrySet().stream()
+                .map(entry -> new RewardDelta(entry.getKey(), null, entry.getValue()))
+                .toList();
+        int[] updated = rewardBatchRepository.incrementRewards(increments);
+        List<UserChange> changes = new ArrayList<>(increments.size());
+        for (int i = 0; i < increments.size(); i++) {
+            String userId = increments.get(i).getUserId();
+            if (updated[i] == 0) {
+                // 존재 확인 이후 삭제된 경우
+                droppedCounter.increment();
+                log.warn("리워드 반영 대상 유저 없음: {}", userId);
+            } else {
+                changes.add(UserChange.rewardChanged(userId, increments.get(i).getDelta()));
+                userCacheInvalidator.invalidate(userId);
+            }
+        }
+        userChangeService.recordAll(changes);
+        writtenCounter.increment(increments.size());
+    }
+
+    private void requeue(Generation generation) {
+        generation.keyed.forEach(reward -> enqueue(reward.getUserId(), reward.getDelta(), reward.getIdempotencyKey()));
+        generation.deltas.forEach((userId, adder) -> enqueue(userId, adder.sum(), null));
+    }
+
+    private void spill(Generation generation) {
+        if (generation.isEmpty()) {
+            return;
+        }
+        // 다 쓴 뒤에 이름을 바꿔 복구 쪽이 쓰다 만 파일을 읽지 않게 함
+        Path spillFile = spillDir.resolve("reward-write-behind-" + instanceId + "-" + System.currentTimeMillis() + SPILL_SUFFIX);
+        Path partial = spillFile.resolveSibling(spillFile.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(spillDir);
+            writeSpill(partial, generation);
+            Files.move(partial, spillFile, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("리워드 write-behind spill 기록 실패, 유실된 델타: keyed={}, users={}",
+                    generation.keyed.size(), generation.deltas.size(), e);
+        }
+    }
+
+    private void writeSpill(Path file, Generation generation) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (RewardDelta reward : generation.keyed) {
+                writer.write(reward.getUserId() + "\t" + reward.getIdempotencyKey() + "\t" + reward.getDelta());
+                writer.newLine();
+            }
+            // 멱등 키가 없는 건도 키를 붙여 두어 복구가 두 번 적용되지 않게 함
+            for (Map.Entry<String, LongAdder> entry : generation.deltas.entrySet()) {
+                writer.write(entry.getKey() + "\tspill-" + UUID.randomUUID() + "\t" + entry.getValue().sum());
+                writer.newLine();
+            }
+        }
+    }
+
+    private double depth() {
+        Generation generation = current.get();
+        return generation.deltas.size() + generation.keyed.size();
+    }
+
+    private double coalescingRatio() {
+        double written = writtenCounter.count();
+        return written == 0 ? 0 : receivedCounter.count() / written;
+    }
+
+    private static class Generation {
+        private final ConcurrentHashMap<String, LongAdder> deltas = new ConcurrentHashMap<>();
+        private final ConcurrentLinkedQueue<RewardDelta> keyed = new ConcurrentLinkedQueue<>();
+        private final LongAdder inflight = new LongAdder();
+
+        private void add(String userId, long delta, String idempotencyKey) {
+            if (idempotencyKey == null) {
+                deltas.computeIfAbsent(userId, key -> new LongAdder()).add(delta);
+            } else {
+                keyed.add(new RewardDelta(userId, idempotencyKey, delta));
+            }
+        }
+
+        private boolean isEmpty() {
+            return deltas.isEmpty() && keyed.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.modive.userservice.service;
+
+import com.modive.userservice.repository.ArchivedCarRepository;
+import com.modive.userservice.repository.ArchivedUserRepository;
+import com.modive.userservice.repository.CarRepository;
+import com.modive.userservice.repository.JobMarkerRepository;
+import com.modive.userservice.repository.MonthlyUserStatsRepository;
+import com.modive.userservice.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// monthly_user_stats 증분 갱신, 호출한 쪽 트랜잭션에 참여
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatsRollupService {
+
+    private static final int CHURN_MONTHS = 12;
+    private static final String BACKFILL_MARKER = "monthly_user_stats.backfill";
+
+    private final MonthlyUserStatsRepository monthlyUserStatsRepository;
+    private final UserRepository userRepository;
+    private final CarRepository carRepository;
+    private final ArchivedUserRepository archivedUserRepository;
+    private final ArchivedCarRepository archivedCarRepository;
+    private final JobMarkerRepository jobMarkerRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChurn(LocalDateTime deactivatedAt) {
+        recordChurn(deactivatedAt, 1L);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChurn(LocalDateTime deactivatedAt, long count) {
+        monthlyUserStatsRepository.increment(monthOf(deactivatedAt), 0L, count, 0L);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCarAdded(LocalDateTime createdAt) {
+        monthlyUserStatsRepository.increment(monthOf(createdAt), 0L, 0L, 1L);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCarDeleted(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return;
+        }
+        monthlyUserStatsRepository.increment(monthOf(createdAt), 0L, 0L, -1L);
+    }
+
+    public boolean isEmpty() {
+        return monthlyUserStatsRepository.count() == 0;
+    }
+
+    // 원본 테이블 전체를 한 번 집계해서 덮어쓰기 (최초 1회), 보관 테이블로 옮겨진 행도 합산
+    // 여러 인스턴스가 동시에 기동해도 marker 를 먼저 기록한 한 곳만 실행
+    // 집계 테이블을 먼저 잠그고 원본을 읽으므로 그 사이 커밋된 증감은 원본 집계에, 이후 증감은 덮어쓴 값 위에 반영
+    @Transactional
+    public int backfill() {
+        if (jobMarkerRepository.insertIfAbsent(BACKFILL_MARKER) == 0) {
+            log.info("monthly_user_stats backfill 은 이미 실행됨");
+            return 0;
+        }
+        monthlyUserStatsRepository.lockAll();
+
+        Map<String, long[]> months = new TreeMap<>();
+        collect(months, userRepository.countSignupsByMonth(), 0);
+        collect(months, archivedUserRepository.countSignupsByMonth(), 0);
+        // 이탈은 통계 화면 구간(최근 12개월)만 deactivated_at 범위 조회로 집계
+        LocalDateTime churnFrom = YearMonth.now().minusMonths(CHURN_MONTHS - 1).atDay(1).atStartOfDay();
+        collect(months, userRepository.countChurnsByMonthSince(churnFrom), 1);
+        collect(months, archivedUserRepository.countChurnsByMonthSince(churnFrom), 1);
+        collect(months, carRepository.countCarsByMonth(), 2);
+        collect(months, archivedCarRepository.countCarsByMonth(), 2);
+
+        months.forEach((month, counts) ->
+                monthlyUserStatsRepository.overwrite(month, counts[0], counts[1], counts[2]));
+        log.info("monthly_user_stats backfill 완료: {}개월", months.size());
+        return months.size();
+    }
+
+    // 가입은 다른 서비스에서 insert 되므로 이번 달, 지난 달 가입 수만 범위 조회로 보정
+    @Transactional
+    public void reconcileRecentSignups() {
+        YearMonth current = YearMonth.now();
+        for (YearMonth month : List.of(current.minusMonths(1), current)) {
+            LocalDateTime from = month.atDay(1).atStartOfDay();
+            LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+            long signups = userRepository.countCreatedBetween(from, to)
+                    + archivedUserRepository.countCreatedBetween(from, to);
+            monthlyUserStatsRepository.overwriteNewUsers(month.toString(), signups);
+        }
+    }
+
+    private void collect(Map<String, long[]> months, List<Object[]> rows, int index) {
+        for (Object[] row : rows) {
+            YearMonth month = YearMonth.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue());
+            months.computeIfAbsent(month.toString(), key -> new long[3])[index] += ((Number) row[2]).longValue();
+        }
+    }
+
+    private String monthOf(LocalDateTime dateTime) {
+        return YearMonth.from(dateTime != null ? dateTime : LocalDateTime.now()).toString();
+    }
+}
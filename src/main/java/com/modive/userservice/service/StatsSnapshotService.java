@@ -0,0 +1,187 @@
+package com.modive.userservice.service;
+
+import com.modive.userservice.cache.SingleFlight;
+import com.modive.userservice.domain.MonthlyUserStats;
+import com.modive.userservice.dto.query.AdminStatsSnapshot;
+import com.modive.userservice.dto.query.MonthlyStatsDto;
+import com.modive.userservice.repository.MonthlyUserStatsRepository;
+import com.modive.userservice.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+// 관리자 통계 스냅샷을 TTL 동안 공유하고 만료 전에 백그라운드에서 미리 갱신
+@Slf4j
+@Service
+public class StatsSnapshotService {
+
+    private static final String SNAPSHOT_KEY = "snapshot";
+
+    private final UserRepository userRepository;
+    private final MonthlyUserStatsRepository monthlyUserStatsRepository;
+
+    private final Duration ttl;
+    private final Duration refreshAhead;
+
+    private final AtomicReference<AdminStatsSnapshot> current = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    // 만료 시점에 몰린 요청과 백그라운드 갱신이 같은 계산 한 번을 공유
+    private final SingleFlight<String, AdminStatsSnapshot> computeFlight;
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stats-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer computeTimer;
+
+    public StatsSnapshotService(UserRepository userRepository,
+                                MonthlyUserStatsRepository monthlyUserStatsRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${modive.stats.snapshot.ttl:60s}") Duration ttl,
+                                @Value("${modive.stats.snapshot.refresh-ahead:15s}") Duration refreshAhead,
+                                @Value("${modive.single-flight.max-waiters:256}") int maxWaiters) {
+        this.userRepository = userRepository;
+        this.monthlyUserStatsRepository = monthlyUserStatsRepository;
+        this.ttl = ttl;
+        this.refreshAhead = refreshAhead;
+        this.hitCounter = Counter.builder("admin.stats.snapshot.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("admin.stats.snapshot.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.computeTimer = Timer.builder("admin.stats.snapshot.compute")
+                .register(meterRegistry);
+        this.computeFlight = new SingleFlight<>("admin.stats.snapshot", maxWaiters, meterRegistry);
+    }
+
+    public AdminStatsSnapshot getSnapshot() {
+        AdminStatsSnapshot snapshot = current.get();
+        Instant now = Instant.now();
+        if (isFresh(snapshot, now)) {
+            hitCounter.increment();
+            if (!now.isBefore(expiresAt(snapshot).minus(refreshAhead))) {
+                refreshInBackground();
+            }
+            return snapshot;
+        }
+
+        missCounter.increment();
+        return computeFlight.execute(SNAPSHOT_KEY, () -> {
+            // 직전 계산이 끝난 직후 들어왔으면 그대로 사용
+            AdminStatsSnapshot latest = current.get();
+            if (isFresh(latest, Instant.now())) {
+                return latest;
+            }
+            return refresh();
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                computeFlight.execute(SNAPSHOT_KEY, this::refresh);
+            } catch (Exception e) {
+                log.warn("관리자 통계 스냅샷 갱신 실패", e);
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private AdminStatsSnapshot refresh() {
+        AdminStatsSnapshot snapshot = computeTimer.record(this::compute);
+        current.set(snapshot);
+        return snapshot;
+    }
+
+    private AdminStatsSnapshot compute() {
+        List<YearMonth> last12Months = generateLast12Months();
+        List<MonthlyUserStats> monthlyStats = monthlyUserStatsRepository.findByStatsMonthBetweenOrderByStatsMonthAsc(
+                last12Months.get(0).toString(),
+                last12Months.get(last12Months.size() - 1).toString()
+        );
+
+        return AdminStatsSnapshot.compute(
+                Instant.now(),
+                getLastWeekNewUserCount(),
+                last12Months,
+                toUserStats(last12Months.get(0), monthlyStats),
+                toChurnStats(monthlyStats)
+        );
+    }
+
+    private boolean isFresh(AdminStatsSnapshot snapshot, Instant now) {
+        return snapshot != null && now.isBefore(expiresAt(snapshot));
+    }
+
+    private Instant expiresAt(AdminStatsSnapshot snapshot) {
+        return snapshot.getComputedAt().plus(ttl);
+    }
+
+    private long getLastWeekNewUserCount() {
+        // 지난주 월요일 00시 ~ 이번주 월요일 00시
+        LocalDateTime thisMonday = LocalDate.now().with(DayOfWeek.MONDAY).atStartOfDay();
+        return userRepository.countCreatedBetween(thisMonday.minusWeeks(1), thisMonday);
+    }
+
+    // 조회 구간 이전 가입자는 한 건으로 합쳐서 누적 계산에 반영
+    private List<MonthlyStatsDto> toUserStats(YearMonth from, List<MonthlyUserStats> monthlyStats) {
+        List<MonthlyStatsDto> userStats = new ArrayList<>();
+        long before = monthlyUserStatsRepository.sumNewUsersBefore(from.toString());
+        if (before > 0) {
+            userStats.add(new MonthlyStatsDto(from.minusMonths(1).toString(), before));
+        }
+        monthlyStats.stream()
+                .filter(stats -> stats.getNewUsers() > 0)
+                .forEach(stats -> userStats.add(new MonthlyStatsDto(stats.getStatsMonth(), stats.getNewUsers())));
+        return userStats;
+    }
+
+    private List<MonthlyStatsDto> toChurnStats(List<MonthlyUserStats> monthlyStats) {
+        return monthlyStats.stream()
+                .map(stats -> new MonthlyStatsDto(stats.getStatsMonth(), stats.getChurnedUsers()))
+                .collect(Collectors.toList());
+    }
+
+    private List<YearMonth> generateLast12Months() {
+        List<YearMonth> months = new ArrayList<>();
+        YearMonth current = YearMonth.now();
+
+        // 현재 월부터 11개월 전까지
+        for (int i = 11; i >= 0; i--) {
+            months.add(current.minusMonths(i));
+        }
+
+        return months;
+    }
+}
@@ -0,0 +1,132 @@
+package com.modive.userservice.service;
+
+import com.modive.userservice.cache.UserCacheInvalidator;
+import com.modive.userservice.dto.query.UserChange;
+import com.modive.userservice.metrics.TransactionMetricsListener;
+import com.modive.userservice.repository.ArchiveBatchRepository;
+import com.modive.userservice.repository.ArchiveBatchRepository.Candidate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 오래 비활성 상태인 사용자와 차량을 작은 batch 로 보관 테이블에 옮김
+// monthly_user_stats 는 이미 집계된 값이라 건드리지 않고, 원본 재집계 경로만 보관 테이블을 합산
+@Slf4j
+@Service
+public class UserArchiveService {
+
+    private final ArchiveBatchRepository archiveBatchRepository;
+    private final UserChangeService userChangeService;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration inactiveFor;
+    private final int batchSize;
+    private final long pauseMs;
+    private final int maxBatches;
+    private final Duration maxDuration;
+
+    private final Counter archivedUsers;
+    private final Counter archivedCars;
+    private final Timer batchTimer;
+
+    public UserArchiveService(ArchiveBatchRepository archiveBatchRepository,
+                              UserChangeService userChangeService,
+                              UserCacheInvalidator userCacheInvalidator,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${modive.archive.inactive-for:365d}") Duration inactiveFor,
+                              @Value("${modive.archive.batch-size:500}") int batchSize,
+                              @Value("${modive.archive.pause-ms:200}") long pauseMs,
+                              @Value("${modive.archive.max-batches:1000}") int maxBatches,
+                              @Value("${modive.archive.max-duration:30m}") Duration maxDuration) {
+        this.archiveBatchRepository = archiveBatchRepository;
+        this.userChangeService = userChangeService;
+        this.userCacheInvalidator = userCacheInvalidator;
+        this.transactionTemplate = TransactionMetricsListener.named(transactionTemplate, "UserArchiveService.moveBatch");
+        this.inactiveFor = inactiveFor;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+        this.maxBatches = maxBatches;
+        this.maxDuration = maxDuration;
+        this.archivedUsers = Counter.builder("user.archive.moved")
+                .tag("table", "users")
+                .register(meterRegistry);
+        this.archivedCars = Counter.builder("user.archive.moved")
+                .tag("table", "cars")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("user.archive.batch")
+                .register(meterRegistry);
+    }
+
+    // 한 번 실행에서 옮긴 사용자 수, batch 사이에 pause-ms 만큼 쉬고 max-batches / max-duration 에서 멈춤
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(inactiveFor);
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+
+        Candidate after = null;
+        int total = 0;
+        for (int batch = 0; batch < maxBatches && System.nanoTime() < deadline; batch++) {
+            Candidate cursor = after;
+            BatchResult result = batchTimer.record(() -> transactionTemplate.execute(status -> moveBatch(cutoff, cursor)));
+            if (result == null || result.last() == null) {
+                break;
+            }
+            total += result.users();
+            after = result.last();
+            if (result.scanned() < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("비활성 사용자 보관 완료: {}명 (기준 {})", total, cutoff);
+        }
+        return total;
+    }
+
+    private BatchResult moveBatch(LocalDateTime cutoff, Candidate after) {
+        List<Candidate> candidates = archiveBatchRepository.lockCandidates(cutoff, after, batchSize);
+        if (candidates.isEmpty()) {
+            return new BatchResult(0, 0, null);
+        }
+        List<String> userIds = candidates.stream().map(Candidate::userId).toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        // cars 가 users 를 참조하므로 차량부터 옮김
+        int cars = archiveBatchRepository.moveCars(userIds, now);
+        int users = archiveBatchRepository.moveUsers(userIds, now);
+        userChangeService.recordAll(userIds.stream().map(UserChange::archived).toList());
+        userIds.forEach(userCacheInvalidator::invalidate);
+
+        archivedUsers.increment(users);
+        archivedCars.increment(cars);
+        return new BatchResult(candidates.size(), users, candidates.get(candidates.size() - 1));
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record BatchResult(int scanned, int users, Candidate last) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.modive.userservice.service;
+
+import com.modive.userservice.cache.UserInfoCache;
+import com.modive.userservice.domain.CarInfo;
+import com.modive.userservice.domain.UserInfo;
+import com.modive.userservice.dto.query.CarInfoRow;
+import com.modive.userservice.dto.response.UserBatchResponse;
+import com.modive.userservice.exception.BulkRequestTooLargeException;
+import com.modive.userservice.repository.ArchivedCarRepository;
+import com.modive.userservice.repository.ArchivedUserRepository;
+import com.modive.userservice.repository.CarRepository;
+import com.modive.userservice.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 서비스 간 호출용 다건 조회, userId 단건 API 를 N번 호출하던 것을 한 번의 요청으로 처리
+@Service
+public class UserBatchService {
+
+    private final UserRepository userRepository;
+    private final CarRepository carRepository;
+    private final ArchivedUserRepository archivedUserRepository;
+    private final ArchivedCarRepository archivedCarRepository;
+    private final UserInfoCache userInfoCache;
+
+    private final int maxIds;
+    private final int chunkSize;
+
+    public UserBatchService(UserRepository userRepository,
+                            CarRepository carRepository,
+                            ArchivedUserRepository archivedUserRepository,
+                            ArchivedCarRepository archivedCarRepository,
+                            UserInfoCache userInfoCache,
+                            @Value("${modive.user.batch.max-ids:1000}") int maxIds,
+                            @Value("${modive.user.batch.chunk-size:200}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.carRepository = carRepository;
+        this.archivedUserRepository = archivedUserRepository;
+        this.archivedCarRepository = archivedCarRepository;
+        this.userInfoCache = userInfoCache;
+        this.maxIds = maxIds;
+        this.chunkSize = chunkSize;
+    }
+
+    @Transactional(readOnly = true)
+    public UserBatchResponse getUsers(List<String> userIds, boolean includeCars) {
+        List<String> distinctIds = userIds == null ? List.of() : new ArrayList<>(new LinkedHashSet<>(userIds));
+        if (distinctIds.size() > maxIds) {
+            throw new BulkRequestTooLargeException(maxIds);
+        }
+
+        // null / 빈 id 는 캐시(Caffeine 은 null key 를 받지 않음)나 DB 로 보내지 않고 missing 으로 응답
+        List<String> lookupIds = distinctIds.stream()
+                .filter(userId -> userId != null && !userId.isBlank())
+                .toList();
+        Map<String, UserInfo> found = userInfoCache.getAllByUserId(lookupIds, this::loadUsers);
+
+        // 요청 순서 유지
+        Map<String, UserInfo> users = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String userId : distinctIds) {
+            UserInfo userInfo = found.get(userId);
+            if (userInfo != null) {
+                users.put(userId, userInfo);
+            } else {
+                missing.add(userId);
+            }
+        }
+
+        return UserBatchResponse.builder()
+                .users(users)
+                .cars(includeCars ? loadActiveCars(users) : null)
+                .missing(missing)
+                .build();
+    }
+
+    // users 에 없는 id 만 보관 테이블에서 다시 조회
+    private Map<String, UserInfo> loadUsers(Set<String> userIds) {
+        Map<String, UserInfo> loaded = new HashMap<>();
+        for (List<String> chunk : chunks(new ArrayList<>(userIds))) {
+            userRepository.findInfoByUserIdIn(chunk)
+                    .forEach(row -> loaded.put(row.getUserId(), UserInfo.from(row)));
+        }
+        List<String> notFound = userIds.stream().filter(userId -> !loaded.containsKey(userId)).toList();
+        for (List<String> chunk : chunks(notFound)) {
+            archivedUserRepository.findInfoByUserIdIn(chunk)
+                    .forEach(row -> loaded.put(row.getUserId(), UserInfo.from(row)));
+        }
+        return loaded;
+    }
+
+    private Map<String, List<CarInfo>> loadActiveCars(Map<String, UserInfo> users) {
+        Set<String> userIds = users.keySet();
+        Map<String, List<CarInfo>> cars = new LinkedHashMap<>();
+        userIds.forEach(userId -> cars.put(userId, new ArrayList<>()));
+        for (List<String> chunk : chunks(new ArrayList<>(userIds))) {
+            for (CarInfoRow row : carRepository.findActiveInfoByUserIdIn(chunk)) {
+                cars.get(row.getUserId()).add(CarInfo.from(row));
+            }
+        }
+        // 보관 대상은 비활성 사용자뿐이므로 차량이 비어 있는 비활성 사용자만 보관 차량 조회
+        List<String> inactiveIds = userIds.stream()
+                .filter(userId -> Long.valueOf(0L).equals(users.get(userId).getIsActive()) && cars.get(userId).isEmpty())
+                .toList();
+        for (List<String> chunk : chunks(inactiveIds)) {
+            for (CarInfoRow row : archivedCarRepository.findActiveInfoByUserIdIn(chunk)) {
+                cars.get(row.getUserId()).add(CarInfo.from(row));
+            }
+        }
+        return cars;
+    }
+
+    private <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            chunks.add(items.subList(from, Math.min(from + chunkSize, items.size())));
+        }
+        return chunks;
+    }
+}
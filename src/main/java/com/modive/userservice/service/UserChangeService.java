@@ -0,0 +1,176 @@
+package com.modive.userservice.service;
+
+import com.modive.userservice.domain.UserChangeEvent;
+import com.modive.userservice.domain.UserChangeType;
+import com.modive.userservice.dto.query.UserChange;
+import com.modive.userservice.dto.query.UserInfoRow;
+import com.modive.userservice.dto.response.UserChangeFeedResponse;
+import com.modive.userservice.dto.response.UserChangeResponse;
+import com.modive.userservice.repository.UserChangeBatchRepository;
+import com.modive.userservice.repository.UserChangeEventRepository;
+import com.modive.userservice.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 사용자/차량 변경을 outbox 에 기록하고 sequence 기준 변경 피드 제공
+@Slf4j
+@Service
+public class UserChangeService {
+
+    private final UserChangeBatchRepository userChangeBatchRepository;
+    private final UserChangeEventRepository userChangeEventRepository;
+    private final UserRepository userRepository;
+
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final Duration settle;
+    private final Duration gapTimeout;
+    private final Duration retention;
+    private final int relayBatchSize;
+    private final Duration relayOverlap;
+
+    // 마지막으로 outbox 에 옮긴 가입 시각, relay 는 임대를 가진 인스턴스의 스케줄러 스레드에서만 갱신
+    private LocalDateTime signupCursor;
+
+    public UserChangeService(UserChangeBatchRepository userChangeBatchRepository,
+                             UserChangeEventRepository userChangeEventRepository,
+                             UserRepository userRepository,
+                             @Value("${modive.outbox.default-limit:500}") int defaultLimit,
+                             @Value("${modive.outbox.max-limit:1000}") int maxLimit,
+                             @Value("${modive.outbox.settle:2s}") Duration settle,
+                             @Value("${modive.outbox.gap-timeout:60s}") Duration gapTimeout,
+                             @Value("${modive.outbox.retention:7d}") Duration retention,
+                             @Value("${modive.outbox.signup-relay.batch-size:500}") int relayBatchSize,
+                             @Value("${modive.outbox.signup-relay.overlap:1m}") Duration relayOverlap) {
+        this.userChangeBatchRepository = userChangeBatchRepository;
+        this.userChangeEventRepository = userChangeEventRepository;
+        this.userRepository = userRepository;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.settle = settle;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+        this.relayBatchSize = relayBatchSize;
+        this.relayOverlap = relayOverlap;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(UserChange change) {
+        userChangeBatchRepository.append(List.of(change));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(List<UserChange> changes) {
+        userChangeBatchRepository.append(changes);
+    }
+
+    // IDENTITY 값은 커밋 순서와 다를 수 있어 sequence 가 비어 있는 곳에서 멈추고, gap-timeout 이 지나도록
+    // 채워지지 않으면 롤백/INSERT IGNORE 로 버려진 값으로 보고 건너뜀
+    // 레플리카 지연만큼 최근 행이 안 보일 수 있으므로 읽기 전용으로 라우팅하지 않고 primary 에서 조회
+    @Transactional
+    public UserChangeFeedResponse getChanges(Long since, Integer limit) {
+        long from = since == null ? 0L : Math.max(0L, since);
+        int size = limit == null ? defaultLimit : Math.min(Math.max(limit, 1), maxLimit);
+
+        LocalDateTime dbNow = userChangeEventRepository.currentTimestamp();
+        List<UserChangeEvent> rows = userChangeEventRepository
+                .findChangesAfter(from, dbNow.minus(settle), PageRequest.of(0, size + 1));
+        List<UserChangeEvent> visible = visiblePrefix(from, rows, dbNow.minus(gapTimeout));
+
+        boolean hasMore = visible.size() > size;
+        List<UserChangeResponse> changes = (hasMore ? visible.subList(0, size) : visible).stream()
+                .map(UserChangeResponse::from)
+                .toList();
+        return UserChangeFeedResponse.of(changes, from, hasMore);
+    }
+
+    // since 다음부터 sequence 가 이어지는 구간만, 빈 sequence 뒤의 행이 gapExpiredBefore 이전에 기록됐으면 그 빈 곳은 건너뜀
+    static List<UserChangeEvent> visiblePrefix(long since, List<UserChangeEvent> rows, LocalDateTime gapExpiredBefore) {
+        List<UserChangeEvent> visible = new ArrayList<>(rows.size());
+        long expected = since + 1;
+        for (UserChangeEvent row : rows) {
+            if (row.getId() != expected && !row.getCreatedAt().isBefore(gapExpiredBefore)) {
+                break;
+            }
+            visible.add(row);
+            expected = row.getId() + 1;
+        }
+        return visible;
+    }
+
+    // 가입은 인증 서비스가 users 에 직접 넣으므로 createDateTime 커서로 따라가며 USER_CREATED 를 기록
+    // overlap 구간은 매번 다시 읽고 dedupe_key 로 중복을 걸러 늦게 커밋된 가입도 놓치지 않음
+    public int relaySignups() {
+        if (signupCursor == null) {
+            signupCursor = initialSignupCursor();
+        }
+
+        int relayed = 0;
+        List<UserInfoRow> slice = signupCursor == null
+                ? userRepository.findFirstSlice(PageRequest.of(0, relayBatchSize))
+                : userRepository.findSliceAfter(signupCursor.minus(relayOverlap), "", PageRequest.of(0, relayBatchSize));
+        while (!slice.isEmpty()) {
+            // overlap 구간의 이미 기록된 가입은 미리 걸러서 INSERT IGNORE 가 sequence 를 버리지 않게 함
+            List<UserChange> created = slice.stream()
+                    .map(row -> UserChange.created(row.getUserId()))
+                    .toList();
+            Set<String> existing = new HashSet<>(userChangeEventRepository.findExistingDedupeKeys(
+                    created.stream().map(UserChange::getDedupeKey).toList()));
+            int[] inserted = userChangeBatchRepository.appendIfAbsent(created.stream()
+                    .filter(change -> !existing.contains(change.getDedupeKey()))
+                    .toList());
+            for (int count : inserted) {
+                relayed += count == 0 ? 0 : 1;
+            }
+
+            UserInfoRow last = slice.get(slice.size() - 1);
+            if (last.getCreateDateTime() == null) {
+                break;
+            }
+            signupCursor = last.getCreateDateTime();
+            if (slice.size() < relayBatchSize) {
+                break;
+            }
+            slice = userRepository.findSliceAfter(last.getCreateDateTime(), last.getUserId(),
+                    PageRequest.of(0, relayBatchSize));
+        }
+        if (relayed > 0) {
+            log.debug("가입 변경 {}건 outbox 기록", relayed);
+        }
+        return relayed;
+    }
+
+    public void resetSignupCursor() {
+        signupCursor = null;
+    }
+
+    @Transactional
+    public int purge() {
+        return userChangeEventRepository.deleteOlderThan(LocalDateTime.now().minus(retention));
+    }
+
+    // 마지막으로 기록한 가입자부터 이어서, outbox 가 처음이면 기존 사용자는 건너뛰고 이후 가입만
+    private LocalDateTime initialSignupCursor() {
+        List<String> latest = userChangeEventRepository.findLatestUserIds(UserChangeType.USER_CREATED, PageRequest.of(0, 1));
+        if (!latest.isEmpty()) {
+            LocalDateTime createdAt = userRepository.findInfoByUserId(latest.get(0))
+                    .map(UserInfoRow::getCreateDateTime)
+                    .orElse(null);
+            if (createdAt != null) {
+                return createdAt;
+            }
+        }
+        return userRepository.findLatestCreateDateTime().orElse(null);
+    }
+}
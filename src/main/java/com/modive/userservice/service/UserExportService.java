@@ -0,0 +1,103 @@
+package com.modive.userservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modive.userservice.domain.User;
+import com.modive.userservice.domain.UserInfo;
+import com.modive.userservice.dto.query.UserInfoRow;
+import com.modive.userservice.export.ExportFormat;
+import com.modive.userservice.export.UserRowWriter;
+import com.modive.userservice.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+// 사용자 전체를 DB 커서로 읽으면서 바로 응답 스트림에 기록 (목록을 메모리에 모으지 않음)
+@Slf4j
+@Service
+public class UserExportService {
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final int fetchSize;
+    private final int flushEveryRows;
+
+    public UserExportService(UserRepository userRepository,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${modive.user.export.fetch-size:-2147483648}") int fetchSize,
+                             @Value("${modive.user.export.flush-every-rows:1000}") int flushEveryRows) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.flushEveryRows = flushEveryRows;
+        // 레플리카 라우팅이 켜져 있으면 읽기 전용 트랜잭션은 레플리카에서 실행
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.readOnlyTransactionTemplate.setName("UserExportService.export");
+    }
+
+    // 응답 스트림이 닫힐 때까지 트랜잭션/커서를 유지, 클라이언트가 끊으면 IOException 으로 중단
+    public long export(OutputStream outputStream, ExportFormat format, boolean gzip, Integer active) throws IOException {
+        long started = System.nanoTime();
+        OutputStream target = gzip ? new GZIPOutputStream(outputStream, 8192, true) : outputStream;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+        UserRowWriter rowWriter = UserRowWriter.of(format, objectMapper);
+
+        long rows;
+        try {
+            rows = readOnlyTransactionTemplate.execute(status -> {
+                try (Stream<UserInfoRow> stream = userRepository.streamInfoRows(filter(active), fetchSize)) {
+                    return writeRows(writer, rowWriter, stream.iterator());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        if (gzip) {
+            ((GZIPOutputStream) target).finish();
+        }
+        log.info("사용자 내보내기 {}: {}행, {}ms", format, rows, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    private long writeRows(Writer writer, UserRowWriter rowWriter, Iterator<UserInfoRow> rows) throws IOException {
+        rowWriter.writeHeader(writer);
+        long count = 0;
+        while (rows.hasNext()) {
+            rowWriter.write(writer, UserInfo.from(rows.next()));
+            count++;
+            // 첫 행은 바로 내보내고 이후에도 주기적으로 클라이언트까지 밀어냄
+            if (count == 1 || count % flushEveryRows == 0) {
+                writer.flush();
+            }
+        }
+        return count;
+    }
+
+    private static Specification<User> filter(Integer active) {
+        Specification<User> spec = Specification.where(null);
+        if (active != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("isActive"), active == 1));
+        }
+        return spec;
+    }
+}
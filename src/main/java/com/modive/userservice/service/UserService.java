@@ -1,95 +1,185 @@
 package com.modive.userservice.service;
 
+import com.modive.userservice.cache.SingleFlight;
+import com.modive.userservice.cache.UserCacheInvalidator;
+import com.modive.userservice.cache.UserExistenceFilter;
+import com.modive.userservice.cache.UserInfoCache;
 import com.modive.userservice.domain.User;
 import com.modive.userservice.domain.UserInfo;
+import com.modive.userservice.dto.query.UserChange;
 import com.modive.userservice.dto.response.UserListResponse;
 import com.modive.userservice.dto.response.UserResponse;
+import com.modive.userservice.exception.DuplicateNicknameException;
+import com.modive.userservice.exception.UserNotFoundException;
+import com.modive.userservice.repository.ArchivedUserRepository;
 import com.modive.userservice.repository.UserRepository;
-import com.modive.userservice.util.UserUtil;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 public class UserService {
 
-    private final UserUtil userContextUtil;
     private final UserRepository userRepository;
+    private final ArchivedUserRepository archivedUserRepository;
+    private final RewardService rewardService;
+    private final RewardWriteBehindBuffer rewardWriteBehindBuffer;
+    private final StatsRollupService statsRollupService;
+    private final UserChangeService userChangeService;
+    private final UserInfoCache userInfoCache;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final UserExistenceFilter userExistenceFilter;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final SingleFlight<String, UserInfo> userIdFlight;
+    private final SingleFlight<String, UserInfo> nicknameFlight;
+
+    public UserService(UserRepository userRepository,
+                       ArchivedUserRepository archivedUserRepository,
+                       RewardService rewardService,
+                       RewardWriteBehindBuffer rewardWriteBehindBuffer,
+                       StatsRollupService statsRollupService,
+                       UserChangeService userChangeService,
+                       UserInfoCache userInfoCache,
+                       UserCacheInvalidator userCacheInvalidator,
+                       UserExistenceFilter userExistenceFilter,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${modive.single-flight.max-waiters:256}") int maxWaiters) {
+        this.userRepository = userRepository;
+        this.archivedUserRepository = archivedUserRepository;
+        this.rewardService = rewardService;
+        this.rewardWriteBehindBuffer = rewardWriteBehindBuffer;
+        this.statsRollupService = statsRollupService;
+        this.userChangeService = userChangeService;
+        this.userInfoCache = userInfoCache;
+        this.userCacheInvalidator = userCacheInvalidator;
+        this.userExistenceFilter = userExistenceFilter;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.readOnlyTransactionTemplate.setName("UserService.lookup");
+        this.userIdFlight = new SingleFlight<>("user.by-id", maxWaiters, meterRegistry);
+        this.nicknameFlight = new SingleFlight<>("user.by-nickname", maxWaiters, meterRegistry);
+    }
 
-
-
-    public UserResponse getUser() {
-        User user = userRepository.findById(userContextUtil.getUserId())
+    @Transactional(readOnly = true)
+    public UserResponse getUser(final String userId) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
         return UserResponse.of(user);
     }
 
+    public boolean existsByNickname(final String nickname) {
+        return userExistenceFilter.nicknameExists(nickname);
+    }
+
+    public boolean existsByEmail(final String email) {
+        return userExistenceFilter.emailExists(email);
+    }
+
+    // 캐시 히트와 동시 미스 대기는 트랜잭션(커넥션) 없이, 실제로 읽는 한 건만 읽기 전용 트랜잭션
     public UserInfo getUserByNickname(final String nickname) {
-        return UserInfo.from(userRepository.findByNickname(nickname));
+        UserInfo userInfo = userInfoCache.getByNickname(nickname, key -> nicknameFlight.execute(key,
+                () -> readOnlyTransactionTemplate.execute(status -> userRepository.findInfoByNickname(key)
+                        .map(UserInfo::from)
+                        .orElse(null))));
+        if (userInfo == null) {
+            throw new UserNotFoundException();
+        }
+        return userInfo;
     }
 
+    // users 에 없으면 보관된 사용자인지 한 번 더 확인
     public UserInfo getUserByUserId(final String userId) {
-        return UserInfo.from(userRepository.findByUserId(userId));
+        UserInfo userInfo = userInfoCache.getByUserId(userId, key -> userIdFlight.execute(key,
+                () -> readOnlyTransactionTemplate.execute(status -> userRepository.findInfoByUserId(key)
+                        .or(() -> archivedUserRepository.findInfoByUserId(key))
+                        .map(UserInfo::from)
+                        .orElse(null))));
+        if (userInfo == null) {
+            throw new UserNotFoundException();
+        }
+        return userInfo;
     }
 
     @Transactional
-    public void updateNickname(final String nickname) {
-        User user = userRepository.findByUserId(userContextUtil.getUserId());
+    public void updateNickname(final String userId, final String nickname) {
+        User user = userRepository.findByUserId(userId);
+        // Bloom filter 는 다른 인스턴스의 변경을 늦게 알 수 있어 쓰기 경로에서는 DB 로 확인 (자기 자신은 제외)
+        if (userRepository.existsByNicknameAndUserIdNot(nickname, userId)) {
+            throw new DuplicateNicknameException();
+        }
         user.setNickname(nickname);
-        userRepository.saveAndFlush(user);
-    }
-
-    @Transactional
-    public String deleteUser() {
+        // 동시에 같은 닉네임으로 바꾸는 경우는 uk_users_nickname 이 막음
         try {
-            String userId = userContextUtil.getUserId();
-            User user = userRepository.findByUserId(userId);
-            user.setActive(false);
-            return "유저 삭제에 성공했습니다.";
-        } catch (Exception e) {
-            return "유저 삭제에 실패했습니다.";
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateNicknameException();
         }
+        userChangeService.record(UserChange.nicknameChanged(userId, nickname));
+        userExistenceFilter.add(nickname, null);
+        userCacheInvalidator.invalidate(user.getUserId());
     }
 
+    // 실패는 잡지 않고 던짐, MANDATORY 참여 메서드가 실패하면 트랜잭션이 rollback-only 가 되어 커밋할 수 없음
     @Transactional
     public String deleteUser(final String userId) {
-        try {
-            User user = userRepository.findByUserId(userId);
-            user.setActive(false);
-            return "유저 삭제에 성공했습니다.";
-        } catch (Exception e) {
-            return "유저 삭제에 실패했습니다.";
+        User user = userRepository.findByUserId(userId);
+        if (user == null) {
+            throw new UserNotFoundException();
         }
+        deactivate(user);
+        return "유저 삭제에 성공했습니다.";
     }
 
-    @Transactional
-    public void updateUserReward(String userId, Long reward) {
-        User user = userRepository.findByUserId(userId);
-        user.setReward(user.getReward() + reward);
-        userRepository.saveAndFlush(user);
+    private void deactivate(User user) {
+        if (!user.isActive()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        user.setActive(false);
+        user.setDeactivatedAt(now);
+        statsRollupService.recordChurn(now);
+        userChangeService.record(UserChange.deactivated(user.getUserId()));
+        userCacheInvalidator.invalidate(user.getUserId());
+    }
+
+    public void updateUserReward(String userId, Long reward, String idempotencyKey) {
+        RewardService.checkIdempotencyKey(idempotencyKey);
+        // write-behind 모드면 버퍼에 모았다가 주기적으로 일괄 반영
+        if (rewardWriteBehindBuffer.isEnabled()) {
+            rewardWriteBehindBuffer.add(userId, reward, idempotencyKey);
+            return;
+        }
+        rewardService.applyReward(userId, reward, idempotencyKey);
     }
 
     @Transactional
-    public void updateUserAlarm(boolean alarm) {
-        User user = userRepository.findById(userContextUtil.getUserId())
+    public void updateUserAlarm(final String userId, boolean alarm) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
         user.setAlarm(alarm);
     }
 
-    public String getInterest() {
-        User user = userRepository.findById(userContextUtil.getUserId())
+    @Transactional(readOnly = true)
+    public String getInterest(final String userId) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
         return user.getInterest();
     }
 
     @Transactional
-    public void updateUserInterest(String interest) {
-        User user = userRepository.findById(userContextUtil.getUserId())
+    public void updateUserInterest(final String userId, String interest) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
         user.setInterest(interest);
     }
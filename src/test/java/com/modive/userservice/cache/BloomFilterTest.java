@@ -0,0 +1,49 @@
+package com.modive.userservice.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    @Test
+    void insertedValuesAreAlwaysFound() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01, 1 << 20);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("driver" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("driver" + i));
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01, 1 << 20);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("driver" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void memoryCapLimitsBitSize() {
+        BloomFilter filter = BloomFilter.create(1_000_000, 0.01, 1024);
+        assertEquals(1024 * 8, filter.bitSize());
+        assertTrue(filter.hashCount() >= 1);
+    }
+
+    @Test
+    void emptyFilterHasNoSaturation() {
+        BloomFilter filter = BloomFilter.create(100, 0.01, 1024);
+        assertEquals(0.0, filter.saturation());
+        assertEquals(0.0, filter.estimatedFpp());
+    }
+}
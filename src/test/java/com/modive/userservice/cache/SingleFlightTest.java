@@ -0,0 +1,103 @@
+package com.modive.userservice.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void concurrentCallersShareOneComputation() throws Exception {
+        SingleFlight<String, Integer> flight = new SingleFlight<>("test", 100, meterRegistry);
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<Integer> leader = executor.submit(() -> flight.execute("key", () -> {
+                computations.incrementAndGet();
+                await(release);
+                return 42;
+            }));
+            waitUntil(() -> computations.get() == 1);
+
+            List<Future<Integer>> followers = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                followers.add(executor.submit(() -> flight.execute("key", computations::incrementAndGet)));
+            }
+            waitUntil(() -> meterRegistry.counter("single.flight.calls", "name", "test", "role", "shared").count() == 7);
+            release.countDown();
+
+            assertEquals(42, leader.get(5, TimeUnit.SECONDS));
+            for (Future<Integer> follower : followers) {
+                assertEquals(42, follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, computations.get());
+            assertEquals(7.0 / 8, flight.collapseRatio(), 1e-9);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void callersBeyondWaiterBoundRunOnTheirOwn() throws Exception {
+        SingleFlight<String, Integer> flight = new SingleFlight<>("bounded", 0, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> leader = executor.submit(() -> flight.execute("key", () -> {
+                started.countDown();
+                await(release);
+                return 1;
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            assertEquals(2, flight.execute("key", () -> 2));
+            release.countDown();
+            assertEquals(1, leader.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failureIsNotRemembered() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>("failing", 100, meterRegistry);
+
+        assertThrows(IllegalStateException.class, () -> flight.execute("key", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(3, flight.execute("key", () -> 3));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.modive.userservice.cache;
+
+import com.modive.userservice.domain.UserCacheEvent;
+import com.modive.userservice.repository.UserCacheEventRepository;
+import com.modive.userservice.search.UserSearchIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserCacheInvalidatorTest {
+
+    private final UserInfoCache userInfoCache = mock(UserInfoCache.class);
+    private final UserCacheEventRepository repository = mock(UserCacheEventRepository.class);
+    private final UserCacheInvalidator invalidator = new UserCacheInvalidator(userInfoCache,
+            mock(UserSearchIndex.class), mock(UserExistenceFilter.class), repository,
+            Duration.ofSeconds(60), Duration.ofMinutes(10), 100);
+
+    @Test
+    void evictsOnlyNewEventsAndPicksUpLateCommits() {
+        when(repository.findMaxId()).thenReturn(10L);
+        invalidator.poll();
+        verify(userInfoCache, never()).evict(any());
+
+        // 12 는 아직 커밋되지 않음
+        when(repository.findEventsAfter(eq(10L), any())).thenReturn(List.of(event(11, "u1"), event(13, "u3")));
+        invalidator.poll();
+        verify(userInfoCache).evict("u1");
+        verify(userInfoCache).evict("u3");
+
+        when(repository.findEventsIn(anyCollection())).thenReturn(List.of(event(12, "u2")));
+        invalidator.poll();
+        verify(userInfoCache).evict("u2");
+        verify(userInfoCache, times(1)).evict("u1");
+        verify(userInfoCache, times(1)).evict("u3");
+    }
+
+    private static UserCacheEvent event(long id, String userId) {
+        return UserCacheEvent.builder().id(id).userId(userId).createdAt(LocalDateTime.now()).build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.modive.userservice.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class UserExistenceFilterTest {
+
+    @Test
+    void normalizeFoldsCaseAndAccents() {
+        assertEquals("jose", UserExistenceFilter.normalize("José"));
+        assertEquals("jose", UserExistenceFilter.normalize("  JOSE "));
+        assertEquals("cafe", UserExistenceFilter.normalize("Café"));
+    }
+
+    @Test
+    void normalizeFoldsCompatibilityForms() {
+        // 전각 문자는 NFKD 에서 반각으로
+        assertEquals("abc", UserExistenceFilter.normalize("ＡＢＣ"));
+    }
+
+    @Test
+    void normalizeKeepsHangul() {
+        assertEquals(Normalizer.normalize("운전왕", Normalizer.Form.NFKD),
+                UserExistenceFilter.normalize("운전왕"));
+    }
+
+    @Test
+    void normalizeDoesNotMatchCollationExpansions() {
+        // utf8mb4_0900_ai_ci 에서는 같은 값이지만 normalize 는 구분하므로 쓰기 경로는 DB 에서 판단
+        assertNotEquals(UserExistenceFilter.normalize("straße"), UserExistenceFilter.normalize("strasse"));
+    }
+}
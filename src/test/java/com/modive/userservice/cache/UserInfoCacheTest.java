@@ -0,0 +1,51 @@
+package com.modive.userservice.cache;
+
+import com.modive.userservice.domain.UserInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserInfoCacheTest {
+
+    private final UserInfoCache cache = new UserInfoCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+
+    @Test
+    void evictionOfOtherUserDuringLoadStillCaches() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.getByUserId("u1", userId -> {
+            loads.incrementAndGet();
+            cache.evict("u2");
+            return user(userId);
+        });
+        cache.getByUserId("u1", userId -> {
+            loads.incrementAndGet();
+            return user(userId);
+        });
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evictionOfSameUserDuringLoadSkipsCaching() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.getByUserId("u1", userId -> {
+            loads.incrementAndGet();
+            cache.evict("u1");
+            return user(userId);
+        });
+        cache.getByUserId("u1", userId -> {
+            loads.incrementAndGet();
+            return user(userId);
+        });
+
+        assertEquals(2, loads.get());
+    }
+
+    private static UserInfo user(String userId) {
+        return UserInfo.builder().userId(userId).nickname("nick-" + userId).build();
+    }
+}
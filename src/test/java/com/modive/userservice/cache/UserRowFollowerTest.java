@@ -0,0 +1,47 @@
+package com.modive.userservice.cache;
+
+import com.modive.userservice.dto.query.UserInfoRow;
+import com.modive.userservice.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserRowFollowerTest {
+
+    private static final LocalDateTime T = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    @Test
+    void lateCommittedSignupBehindCursorIsFollowed() {
+        UserRepository userRepository = mock(UserRepository.class);
+        UserRowFollower follower = new UserRowFollower(userRepository, 100, Duration.ofMinutes(1));
+        when(userRepository.findFirstSlice(any())).thenReturn(List.of(row("u2", T)));
+        follower.scanAll(rows -> { });
+
+        // u1 은 u2 보다 이른 시각으로 기록됐지만 구축 이후에 커밋됨
+        when(userRepository.findSliceAfter(eq(T.minusMinutes(1)), eq(""), any()))
+                .thenReturn(List.of(row("u1", T.minusSeconds(5)), row("u2", T), row("u3", T.plusSeconds(1))));
+        List<String> seen = new ArrayList<>();
+        follower.followNewSignups(rows -> rows.forEach(row -> seen.add(row.getUserId())));
+        assertEquals(List.of("u1", "u2", "u3"), seen);
+
+        // 커서는 가장 늦은 가입자로 이동
+        when(userRepository.findSliceAfter(eq(T.plusSeconds(1).minusMinutes(1)), eq(""), any()))
+                .thenReturn(List.of(row("u3", T.plusSeconds(1))));
+        seen.clear();
+        follower.followNewSignups(rows -> rows.forEach(row -> seen.add(row.getUserId())));
+        assertEquals(List.of("u3"), seen);
+    }
+
+    private static UserInfoRow row(String userId, LocalDateTime createdAt) {
+        return new UserInfoRow(userId, "nick-" + userId, null, 0L, createdAt, 0L, true);
+    }
+}
@@ -0,0 +1,81 @@
+package com.modive.userservice.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 두 개의 내장 H2 를 primary / replica 로 두고 라우팅 확인
+class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private ReplicaSelector selector;
+    private JdbcTemplate routedJdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("routing_primary");
+        DataSource replica = h2("routing_replica");
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+        for (JdbcTemplate jdbc : new JdbcTemplate[]{primaryJdbc, replicaJdbc}) {
+            jdbc.execute("DROP TABLE IF EXISTS node");
+            jdbc.execute("CREATE TABLE node (name VARCHAR(16))");
+            jdbc.execute("DROP TABLE IF EXISTS replica_lag");
+            jdbc.execute("CREATE TABLE replica_lag (seconds BIGINT)");
+            jdbc.update("INSERT INTO replica_lag VALUES (0)");
+        }
+        primaryJdbc.update("INSERT INTO node VALUES ('primary')");
+        replicaJdbc.update("INSERT INTO node VALUES ('replica')");
+
+        selector = new ReplicaSelector(Map.of("replica-1", replica), "SELECT seconds FROM replica_lag",
+                Duration.ofSeconds(2), new SimpleMeterRegistry());
+        selector.checkHealth();
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, selector);
+        routedJdbc = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 30");
+        selector.checkHealth();
+
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 0");
+        selector.checkHealth();
+
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    private String currentNode() {
+        return routedJdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
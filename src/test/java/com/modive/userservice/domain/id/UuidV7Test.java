@@ -0,0 +1,38 @@
+package com.modive.userservice.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7Test {
+
+    @Test
+    void versionAndVariant() {
+        UUID uuid = UuidV7.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void monotonicWithinSameMillisecondAndAfterClockRollback() {
+        long now = System.currentTimeMillis() + 60_000;
+        UUID first = UuidV7.next(now);
+        UUID second = UuidV7.next(now);
+        UUID afterRollback = UuidV7.next(now - 1_000);
+
+        assertTrue(first.toString().compareTo(second.toString()) < 0);
+        assertTrue(second.toString().compareTo(afterRollback.toString()) < 0);
+    }
+
+    @Test
+    void binaryRoundTrip() {
+        String uuid = UuidV7.next().toString();
+
+        assertEquals(16, UuidCodec.toBytes(uuid).length);
+        assertEquals(uuid, UuidCodec.fromBytes(UuidCodec.toBytes(uuid)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.modive.userservice.dto.query;
+
+import com.modive.userservice.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserCursorTest {
+
+    @Test
+    void encodeAndDecode() {
+        LocalDateTime createDateTime = LocalDateTime.of(2025, 6, 9, 12, 30, 15, 123456000);
+        UserCursor cursor = new UserCursor(createDateTime, "0197e0b2-4f5a-7c3e-9d11-2b6c8f0a1e42");
+
+        UserCursor decoded = UserCursor.decode(cursor.encode());
+
+        assertEquals(createDateTime, decoded.getCreateDateTime());
+        assertEquals(cursor.getUserId(), decoded.getUserId());
+    }
+
+    @Test
+    void rejectMalformedCursor() {
+        assertThrows(InvalidCursorException.class, () -> UserCursor.decode("not-a-cursor"));
+        assertThrows(InvalidCursorException.class, () -> UserCursor.decode("%%%"));
+    }
+}
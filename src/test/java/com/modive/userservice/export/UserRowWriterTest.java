@@ -0,0 +1,42 @@
+package com.modive.userservice.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modive.userservice.domain.UserInfo;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserRowWriterTest {
+
+    private final UserInfo userInfo = new UserInfo(
+            "0197e0b2-4f5a-7c3e-9d11-2b6c8f0a1e42", "=kim, \"driver\"", "kim@modive.com", 3L, "2025-06-09", -5L, 1L);
+
+    @Test
+    void csvQuotesAndGuardsFormulas() throws Exception {
+        StringWriter out = new StringWriter();
+        UserRowWriter writer = UserRowWriter.of(ExportFormat.CSV, new ObjectMapper());
+
+        writer.writeHeader(out);
+        writer.write(out, userInfo);
+
+        assertEquals("userId,nickname,email,experience,joinedAt,seedBalance,isActive\r\n"
+                        + "0197e0b2-4f5a-7c3e-9d11-2b6c8f0a1e42,\"'=kim, \"\"driver\"\"\",kim@modive.com,3,2025-06-09,-5,1\r\n",
+                out.toString());
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws Exception {
+        StringWriter out = new StringWriter();
+        UserRowWriter writer = UserRowWriter.of(ExportFormat.NDJSON, new ObjectMapper());
+
+        writer.writeHeader(out);
+        writer.write(out, userInfo);
+        writer.write(out, userInfo);
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(userInfo.getNickname(), new ObjectMapper().readTree(lines[0]).get("nickname").asText());
+    }
+}
@@ -0,0 +1,22 @@
+package com.modive.userservice.metrics.query;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlShapeTest {
+
+    @Test
+    void collapsesLiteralsAndWhitespace() {
+        String shape = SqlShape.normalize("select c1_0.car_id from car c1_0\n  where c1_0.user_id = 'abc' and c1_0.active = 1");
+
+        assertEquals("select c1_0.car_id from car c1_0 where c1_0.user_id = ? and c1_0.active = ?", shape);
+    }
+
+    @Test
+    void inListsOfDifferentLengthShareOneShape() {
+        assertEquals(
+                SqlShape.normalize("select * from users where user_id in (?, ?)"),
+                SqlShape.normalize("select * from users where user_id in (?,?,?,?)"));
+    }
+}
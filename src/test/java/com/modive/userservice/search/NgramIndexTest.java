@@ -0,0 +1,64 @@
+package com.modive.userservice.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NgramIndexTest {
+
+    @Test
+    void gramsSplitIntoTrigrams() {
+        assertEquals(Set.of("dri", "riv", "ive", "ver"), NgramIndex.grams("driver"));
+        assertEquals(Set.of("운전왕"), NgramIndex.grams("운전왕"));
+        assertTrue(NgramIndex.grams("ab").isEmpty());
+    }
+
+    @Test
+    void gramsAreDeduplicated() {
+        assertEquals(Set.of("aaa"), NgramIndex.grams("aaaaa"));
+    }
+
+    @Test
+    void prefixCandidatesFollowValueOrder() {
+        NgramIndex index = new NgramIndex();
+        index.add("u3", "kimchi");
+        index.add("u1", "kim");
+        index.add("u2", "kimbap");
+        index.add("u4", "akim");
+
+        assertEquals(List.of("u1", "u2", "u3"), List.copyOf(index.prefixCandidates("kim", 10)));
+        assertEquals(List.of("u1", "u2"), List.copyOf(index.prefixCandidates("kim", 2)));
+    }
+
+    @Test
+    void substringCandidatesNeedEveryGram() {
+        NgramIndex index = new NgramIndex();
+        index.add("u1", "safedriver");
+        index.add("u2", "driving");
+        index.add("u3", "river");
+
+        assertEquals(Set.of("u1", "u3"), index.substringCandidates("river", 10));
+        assertEquals(Set.of("u1", "u2"), index.substringCandidates("driv", 10));
+        // 세 글자 미만은 trigram 으로 찾지 않음
+        assertTrue(index.substringCandidates("dr", 10).isEmpty());
+    }
+
+    @Test
+    void removeDropsPostingsAndPrefixEntries() {
+        NgramIndex index = new NgramIndex();
+        index.add("u1", "driver");
+        index.add("u2", "driver");
+        index.remove("u1", "driver");
+
+        assertEquals(Set.of("u2"), index.substringCandidates("river", 10));
+        assertEquals(Set.of("u2"), index.prefixCandidates("dri", 10));
+
+        index.remove("u2", "driver");
+        assertEquals(0, index.gramCount());
+        assertTrue(index.prefixCandidates("dri", 10).isEmpty());
+    }
+}
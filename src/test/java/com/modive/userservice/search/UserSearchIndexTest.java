@@ -0,0 +1,90 @@
+package com.modive.userservice.search;
+
+import com.modive.userservice.dto.query.UserInfoRow;
+import com.modive.userservice.dto.response.UserSearchResponse;
+import com.modive.userservice.dto.response.UserSearchResult;
+import com.modive.userservice.exception.InvalidSearchFieldException;
+import com.modive.userservice.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserSearchIndexTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void ranksExactThenPrefixThenSubstringAndShorterFirst() {
+        UserSearchIndex index = build(
+                row("u1", "bakim", true),
+                row("u2", "kimchi", true),
+                row("u3", "akim", true),
+                row("u4", "Kim", true),
+                row("u5", "kimbap", true));
+
+        UserSearchResponse response = index.search("kim", SearchField.NICKNAME, false, 0, 10);
+
+        assertEquals(List.of("u4", "u5", "u2", "u3", "u1"), userIds(response));
+        assertEquals(List.of(MatchType.EXACT, MatchType.PREFIX, MatchType.PREFIX,
+                        MatchType.SUBSTRING, MatchType.SUBSTRING),
+                response.getResults().stream().map(UserSearchResult::getMatchType).toList());
+    }
+
+    @Test
+    void skipsInactiveUnlessRequested() {
+        UserSearchIndex index = build(
+                row("u1", "driver", true),
+                row("u2", "driver2", false));
+
+        assertEquals(List.of("u1"), userIds(index.search("driv", SearchField.NICKNAME, false, 0, 10)));
+        assertEquals(List.of("u1", "u2"), userIds(index.search("driv", SearchField.NICKNAME, true, 0, 10)));
+    }
+
+    @Test
+    void dirtyUserMissingFromDatabaseIsRemoved() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findFirstSlice(any())).thenReturn(List.of(row("u1", "driver", true)));
+        when(userRepository.findSliceAfter(any(), any(), any())).thenReturn(List.of());
+        when(userRepository.findInfoByUserIdIn(anyCollection())).thenReturn(List.of());
+        UserSearchIndex index = new UserSearchIndex(userRepository, new SimpleMeterRegistry(), 2000, 100, 500, Duration.ofMinutes(1));
+        index.rebuild();
+
+        index.markDirty("u1");
+        index.refresh();
+
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void unknownFieldIsRejected() {
+        assertEquals(SearchField.NICKNAME, SearchField.from(null));
+        assertEquals(SearchField.EMAIL, SearchField.from(" email "));
+        assertThrows(InvalidSearchFieldException.class, () -> SearchField.from("phone"));
+    }
+
+    private static UserSearchIndex build(UserInfoRow... rows) {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findFirstSlice(any())).thenReturn(List.of(rows));
+        UserSearchIndex index = new UserSearchIndex(userRepository, new SimpleMeterRegistry(), 2000, 100, 500, Duration.ofMinutes(1));
+        index.rebuild();
+        return index;
+    }
+
+    private static UserInfoRow row(String userId, String nickname, boolean active) {
+        return new UserInfoRow(userId, nickname, null, 0L, CREATED, 0L, active);
+    }
+
+    private static List<String> userIds(UserSearchResponse response) {
+        return response.getResults().stream().map(UserSearchResult::getUserId).toList();
+    }
+}
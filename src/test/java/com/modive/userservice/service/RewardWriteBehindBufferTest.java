@@ -0,0 +1,155 @@
+package com.modive.userservice.service;
+
+import com.modive.userservice.cache.UserCacheInvalidator;
+import com.modive.userservice.dto.query.RewardDelta;
+import com.modive.userservice.repository.RewardBatchRepository;
+import com.modive.userservice.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RewardWriteBehindBufferTest {
+
+    @TempDir
+    Path spillDir;
+
+    private RewardBatchRepository rewardBatchRepository;
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        rewardBatchRepository = mock(RewardBatchRepository.class);
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findExistingUserIds(anyCollection())).thenReturn(List.of("u1", "u2"));
+        when(rewardBatchRepository.appendLedger(anyList())).thenAnswer(invocation -> ones(invocation.getArgument(0)));
+        when(rewardBatchRepository.incrementRewards(anyList())).thenAnswer(invocation -> ones(invocation.getArgument(0)));
+    }
+
+    @Test
+    void failedFlushIsRequeuedIntoNextFlush() {
+        doThrow(new IllegalStateException("db down"))
+                .doAnswer(invocation -> ones(invocation.getArgument(0)))
+                .when(rewardBatchRepository).appendLedger(anyList());
+        RewardWriteBehindBuffer buffer = buffer("pod-a");
+        buffer.add("u1", 5, null);
+        buffer.add("u1", 3, "key-1");
+
+        assertThrows(IllegalStateException.class, buffer::flush);
+        buffer.add("u1", 2, null);
+        buffer.flush();
+
+        assertEquals(Map.of("u1", 10L), lastIncrements());
+    }
+
+    @Test
+    void spilledDeltasAreAppliedOnRecoverAndFileRemoved() throws Exception {
+        doThrow(new IllegalStateException("db down")).when(rewardBatchRepository).appendLedger(anyList());
+        RewardWriteBehindBuffer failing = buffer("pod-a");
+        failing.add("u1", 5, null);
+        failing.add("u2", 7, "key-1");
+        failing.shutdown();
+        assertEquals(1, files().size());
+        assertTrue(files().get(0).getFileName().toString().endsWith(".spill"));
+
+        doAnswer(invocation -> ones(invocation.getArgument(0))).when(rewardBatchRepository).appendLedger(anyList());
+        RewardWriteBehindBuffer restarted = buffer("pod-b");
+        restarted.recover();
+
+        assertEquals(Map.of("u1", 5L, "u2", 7L), lastIncrements());
+        assertEquals(List.of(), files());
+    }
+
+    @Test
+    void failedRecoverKeepsSpillFile() throws Exception {
+        Files.writeString(spillDir.resolve("reward-write-behind-pod-a-1.spill"), "u1\tkey-1\t5\n", StandardCharsets.UTF_8);
+        doThrow(new IllegalStateException("db down")).when(rewardBatchRepository).appendLedger(anyList());
+
+        buffer("pod-b").recover();
+
+        assertEquals(List.of(spillDir.resolve("reward-write-behind-pod-a-1.spill")), files());
+        verify(rewardBatchRepository, never()).incrementRewards(anyList());
+    }
+
+    @Test
+    void ownStaleClaimIsRecovered() throws Exception {
+        Files.writeString(spillDir.resolve("reward-write-behind-pod-a-1.spill.recovering-pod-b"), "u1\tkey-1\t5\n",
+                StandardCharsets.UTF_8);
+
+        buffer("pod-b").recover();
+
+        assertEquals(Map.of("u1", 5L), lastIncrements());
+        assertEquals(List.of(), files());
+    }
+
+    @Test
+    void unknownUserIsNotWrittenToLedger() {
+        RewardWriteBehindBuffer buffer = buffer("pod-a");
+        buffer.add("u1", 5, "key-1");
+        buffer.add("gone", 3, "key-2");
+        buffer.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RewardDelta>> ledger = ArgumentCaptor.forClass(List.class);
+        verify(rewardBatchRepository, atLeastOnce()).appendLedger(ledger.capture());
+        assertEquals(List.of("key-1"), ledger.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(RewardDelta::getIdempotencyKey)
+                .toList());
+        assertEquals(Map.of("u1", 5L), lastIncrements());
+    }
+
+    private RewardWriteBehindBuffer buffer(String instanceId) {
+        return new RewardWriteBehindBuffer(rewardBatchRepository, userRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                mock(UserCacheInvalidator.class), mock(UserChangeService.class), new SimpleMeterRegistry(),
+                true, spillDir.toString(), Duration.ofMinutes(10), instanceId);
+    }
+
+    private Map<String, Long> lastIncrements() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RewardDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(rewardBatchRepository, atLeastOnce()).incrementRewards(captor.capture());
+        Map<String, Long> totals = new HashMap<>();
+        captor.getValue().forEach(reward -> totals.put(reward.getUserId(), reward.getDelta()));
+        return totals;
+    }
+
+    private List<Path> files() throws Exception {
+        try (Stream<Path> files = Files.list(spillDir)) {
+            return files.toList();
+        }
+    }
+
+    private static int[] ones(List<?> rows) {
+        int[] counts = new int[rows.size()];
+        Arrays.fill(counts, 1);
+        return counts;
+    }
+}
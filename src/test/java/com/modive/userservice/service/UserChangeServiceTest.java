@@ -0,0 +1,60 @@
+package com.modive.userservice.service;
+
+import com.modive.userservice.domain.UserChangeEvent;
+import com.modive.userservice.domain.UserChangeType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserChangeServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    @Test
+    void lateCommitBehindCursorIsNotSkipped() {
+        // 12 는 아직 커밋되지 않음, 13 은 먼저 커밋됨
+        List<UserChangeEvent> first = UserChangeService.visiblePrefix(10,
+                List.of(event(11, NOW.minusSeconds(5)), event(13, NOW.minusSeconds(3))),
+                NOW.minusSeconds(60));
+        assertEquals(List.of(11L), ids(first));
+
+        // 다음 요청의 since 는 11 이므로 늦게 커밋된 12 가 13 과 함께 보임
+        List<UserChangeEvent> second = UserChangeService.visiblePrefix(11,
+                List.of(event(12, NOW.minusSeconds(4)), event(13, NOW.minusSeconds(3))),
+                NOW.minusSeconds(60));
+        assertEquals(List.of(12L, 13L), ids(second));
+    }
+
+    @Test
+    void gapAtCursorHoldsFeed() {
+        List<UserChangeEvent> visible = UserChangeService.visiblePrefix(10,
+                List.of(event(12, NOW.minusSeconds(3))),
+                NOW.minusSeconds(60));
+        assertEquals(List.of(), ids(visible));
+    }
+
+    @Test
+    void expiredGapIsSkipped() {
+        // 롤백되어 채워지지 않는 11 은 gap-timeout 이 지나면 건너뜀
+        List<UserChangeEvent> visible = UserChangeService.visiblePrefix(10,
+                List.of(event(12, NOW.minusSeconds(90)), event(13, NOW.minusSeconds(80)), event(15, NOW.minusSeconds(5))),
+                NOW.minusSeconds(60));
+        assertEquals(List.of(12L, 13L), ids(visible));
+    }
+
+    private static UserChangeEvent event(long id, LocalDateTime createdAt) {
+        return UserChangeEvent.builder()
+                .id(id)
+                .changeType(UserChangeType.NICKNAME_CHANGED)
+                .userId("user-" + id)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static List<Long> ids(List<UserChangeEvent> events) {
+        return events.stream().map(UserChangeEvent::getId).toList();
+    }
+}